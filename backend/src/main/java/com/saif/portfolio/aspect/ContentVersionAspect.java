@@ -0,0 +1,52 @@
+package com.saif.portfolio.aspect;
+
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.util.ContentVersions;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bump content versions when public content is mutated in the service layer.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ContentVersionAspect {
+
+    private final ContentVersions contentVersions;
+
+    @Pointcut(
+        "execution(* com.saif.portfolio.service.*.create*(..)) || "
+      + "execution(* com.saif.portfolio.service.*.update*(..)) || "
+      + "execution(* com.saif.portfolio.service.*.delete*(..)) || "
+      + "execution(* com.saif.portfolio.service.*.toggle*(..)) || "
+      + "execution(* com.saif.portfolio.service.*.import*(..))"
+    )
+    public void mutation() {
+    }
+
+    @AfterReturning("mutation() && target(com.saif.portfolio.service.ProjectService)")
+    public void projectMutated() {
+        contentVersions.bumpAfterCommit(ContentVersions.PROJECTS);
+    }
+
+    @AfterReturning("mutation() && target(com.saif.portfolio.service.BlogService)")
+    public void blogMutated() {
+        contentVersions.bumpAfterCommit(ContentVersions.BLOGS);
+    }
+
+    // Projects embed skill names, so a skill change also invalidates project validators
+    @AfterReturning("mutation() && target(com.saif.portfolio.service.SkillService)")
+    public void skillMutated() {
+        contentVersions.bumpAfterCommit(ContentVersions.SKILLS, ContentVersions.PROJECTS);
+    }
+
+    @AfterReturning("mutation() && target(com.saif.portfolio.service.CertificateService)")
+    public void certificateMutated() {
+        contentVersions.bumpAfterCommit(ContentVersions.CERTIFICATES);
+    }
+}
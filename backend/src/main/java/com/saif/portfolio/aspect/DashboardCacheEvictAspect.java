@@ -18,14 +18,15 @@ public class DashboardCacheEvictAspect {
 
     private final CacheManager cacheManager;
 
-    // Matches create*, update*, delete*, toggle*, mark*, save* methods in service package
+    // Matches create*, update*, delete*, toggle*, mark*, save*, import* methods in service package
     @AfterReturning(
         "execution(* com.saif.portfolio.service.*.create*(..)) || "
       + "execution(* com.saif.portfolio.service.*.update*(..)) || "
       + "execution(* com.saif.portfolio.service.*.delete*(..)) || "
       + "execution(* com.saif.portfolio.service.*.toggle*(..)) || "
       + "execution(* com.saif.portfolio.service.*.mark*(..)) || "
-      + "execution(* com.saif.portfolio.service.*.save*(..))"
+      + "execution(* com.saif.portfolio.service.*.save*(..)) || "
+      + "execution(* com.saif.portfolio.service.*.import*(..))"
     )
     public void evictCacheAfterMutation(JoinPoint jp) {
         var cache = cacheManager.getCache("dashboardStats");
@@ -0,0 +1,42 @@
+package com.saif.portfolio.aspect;
+
+import java.util.Set;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.cache.CacheReloader;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tells {@link CacheReloader} which @Cacheable call is in progress so the entry it
+ * reads can later be reloaded by replaying the same call. Ordered ahead of the cache
+ * and transaction interceptors (both lowest precedence) so the call is known by the
+ * time the cache is consulted.
+ */
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class RefreshAheadAspect {
+
+    private final CacheReloader cacheReloader;
+
+    @Around("@annotation(cacheable)")
+    public Object track(ProceedingJoinPoint pjp, Cacheable cacheable) throws Throwable {
+        MethodSignature signature = (MethodSignature) pjp.getSignature();
+        cacheReloader.enter(pjp.getThis(), signature.getMethod(), pjp.getArgs(),
+                Set.of(cacheable.cacheNames().length > 0 ? cacheable.cacheNames() : cacheable.value()));
+        try {
+            return pjp.proceed();
+        } finally {
+            cacheReloader.exit();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.saif.portfolio.cache;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+
+import com.saif.portfolio.util.TransactionUtil;
+
+/**
+ * Local cache whose evictions and clears are also published to the other nodes.
+ * Reads and writes stay local; only invalidation crosses the wire.
+ *
+ * Inside a transaction, evict, clear and evictIf publish right away (the bus delivers on
+ * commit) and drop the local entries once the transaction commits, so no node evicts
+ * ahead of the data and a read racing the write cannot re-cache the old rows here.
+ * evictIfPresent and invalidate stay immediate, as their contract requires.
+ */
+public class BroadcastingCache implements Cache {
+
+    private final Cache local;
+    private final CacheInvalidationBus bus;
+
+    public BroadcastingCache(Cache local, CacheInvalidationBus bus) {
+        this.local = local;
+        this.bus = bus;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return local.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return local.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        bus.publishEvict(getName(), key);
+        TransactionUtil.afterCommit(() -> local.evict(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = local.evictIfPresent(key);
+        bus.publishEvict(getName(), key); // peers may hold it even if this node does not
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        bus.publishClear(getName());
+        TransactionUtil.afterCommit(local::clear);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean hadEntries = local.invalidate();
+        bus.publishClear(getName());
+        return hadEntries;
+    }
+
+    // Peers match the keys and prefixes against their own entries
+    public void evictIf(CacheKeys match) {
+        bus.publishEvict(getName(), match);
+        TransactionUtil.afterCommit(() -> {
+            if (local.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                nativeCache.asMap().keySet().removeIf(match::matches);
+            } else {
+                local.clear();
+            }
+        });
+    }
+}
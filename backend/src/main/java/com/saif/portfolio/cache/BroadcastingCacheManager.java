@@ -0,0 +1,41 @@
+package com.saif.portfolio.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Wraps the node-local cache manager so every eviction is broadcast through
+ * {@link CacheInvalidationBus}. Remote evictions are applied to the local manager
+ * directly and never re-published.
+ */
+public class BroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager local;
+    private final CacheInvalidationBus bus;
+    private final Map<String, BroadcastingCache> caches = new ConcurrentHashMap<>();
+
+    public BroadcastingCacheManager(CacheManager local, CacheInvalidationBus bus) {
+        this.local = local;
+        this.bus = bus;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        BroadcastingCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = local.getCache(name);
+        return target == null ? null
+                : caches.computeIfAbsent(name, n -> new BroadcastingCache(target, bus));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return local.getCacheNames();
+    }
+}
@@ -0,0 +1,346 @@
+package com.saif.portfolio.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+/**
+ * Cross-node cache invalidation over Postgres LISTEN/NOTIFY.
+ *
+ * Evictions are sent with pg_notify on the caller's connection, so inside a transaction
+ * they are delivered only on commit (and dropped on rollback) and peers never evict ahead
+ * of the data. Each node listens on one dedicated pooled connection and applies remote
+ * evictions to its local caches. NOTIFY is fire-and-forget, so whenever the listener
+ * (re)connects after a gap it clears every local cache to catch up on anything it missed.
+ *
+ * The same channel carries topic messages for node-local state that is not a Spring
+ * cache (content versions, in-memory indexes): a {@link Subscriber} receives the messages
+ * other nodes publish on its topic, and is asked to resync whenever messages may have
+ * been missed. On anything other than Postgres (tests, H2) the bus stays local-only.
+ */
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    // NOTIFY payloads are limited to 8000 bytes; keys that do not fit fall back to a clear
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int POLL_TIMEOUT_MS = 10_000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private static final char SEPARATOR = '|';
+    private static final String CLEAR = "*";
+    private static final String KEY = "=";
+    private static final String PREFIX = "^";
+    private static final String LINE = "\n"; // 🔹 separates the keys or prefixes of one notification
+    private static final char TOPIC = '!';
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    private volatile CacheManager local;
+    private volatile boolean active;
+    private volatile boolean running;
+    private Thread listener;
+
+    public CacheInvalidationBus(DataSource dataSource, String channel, boolean enabled) {
+        // LISTEN takes an identifier, not a bind parameter
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.channel = channel;
+        this.enabled = enabled;
+    }
+
+    // The node-local manager remote evictions are applied to (never the broadcasting one)
+    public void attach(CacheManager localCaches) {
+        this.local = localCaches;
+    }
+
+    // One subscriber per topic; it only ever sees messages published by other nodes
+    public void subscribe(String topic, Subscriber subscriber) {
+        subscribers.put(topic, subscriber);
+    }
+
+    // -------------------------------------------------
+    // PUBLISH
+    // -------------------------------------------------
+    public void publishEvict(String cacheName, Object key) {
+        // Non-string keys cannot be rebuilt on the other side
+        if (key instanceof String text) {
+            publishEvict(cacheName, new CacheKeys(Set.of(text), Set.of()));
+        } else {
+            publishClear(cacheName);
+        }
+    }
+
+    // Keys and prefixes go one per line, at most one notification for each; a cache whose
+    // keys do not fit (or contain a line break) is cleared instead
+    public void publishEvict(String cacheName, CacheKeys match) {
+        String keys = packed(cacheName, KEY, match.keys());
+        String prefixes = packed(cacheName, PREFIX, match.prefixes());
+        if (keys == null || prefixes == null) {
+            publishClear(cacheName);
+            return;
+        }
+        if (!keys.isEmpty()) {
+            notify(keys);
+        }
+        if (!prefixes.isEmpty()) {
+            notify(prefixes);
+        }
+    }
+
+    public void publishClear(String cacheName) {
+        notify(nodeId + SEPARATOR + cacheName + SEPARATOR + CLEAR);
+    }
+
+    // Like evictions, delivered on commit when called inside a transaction. Messages too
+    // long for one notification make the peers resync instead
+    public void publish(String topic, String message) {
+        String payload = nodeId + SEPARATOR + TOPIC + topic + SEPARATOR + message;
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            payload = nodeId + SEPARATOR + TOPIC + topic + SEPARATOR + CLEAR;
+        }
+        notify(payload);
+    }
+
+    // Empty when there is nothing to send, null when the lines cannot go in one notification
+    private String packed(String cacheName, String kind, Set<String> lines) {
+        if (lines.isEmpty()) {
+            return "";
+        }
+        if (lines.stream().anyMatch(line -> line.contains(LINE))) {
+            return null;
+        }
+        String payload = nodeId + SEPARATOR + cacheName + SEPARATOR + kind + String.join(LINE, lines);
+        return payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES ? payload : null;
+    }
+
+    private void notify(String payload) {
+        if (!active) {
+            return;
+        }
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, channel, payload);
+        } catch (RuntimeException ex) {
+            // Peers fall back to their TTLs; never fail the write over a lost notification
+            log.warn("Cache invalidation not broadcast ({}): {}", payload, ex.getMessage());
+        }
+    }
+
+    // -------------------------------------------------
+    // LISTEN
+    // -------------------------------------------------
+    private void listen() {
+        boolean connectedBefore = false;
+        long backoff = 1_000;
+
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                execute(connection, "LISTEN " + channel);
+                if (connectedBefore) {
+                    clearAll();
+                    subscribers.keySet().forEach(topic -> deliver(topic, CLEAR));
+                    log.info("Cache invalidation listener reconnected; local caches cleared and topics resynced");
+                }
+                connectedBefore = true;
+                backoff = 1_000;
+
+                try {
+                    PGConnection pg = connection.unwrap(PGConnection.class);
+                    while (running) {
+                        PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                        if (notifications != null) {
+                            for (PGNotification notification : notifications) {
+                                apply(notification.getParameter());
+                            }
+                        } else if (!connection.isValid(5)) {
+                            throw new SQLException("Listener connection no longer valid");
+                        }
+                    }
+                } finally {
+                    // The connection goes back to the pool; stop it queueing notifications there
+                    unlisten(connection);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Cache invalidation listener lost its connection, retrying in {} ms: {}",
+                        backoff, ex.getMessage());
+                sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static void unlisten(Connection connection) {
+        try {
+            execute(connection, "UNLISTEN *");
+        } catch (SQLException ignored) {
+            // broken connection; the pool will discard it
+        }
+    }
+
+    private void apply(String payload) {
+        int first = payload.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : payload.indexOf(SEPARATOR, first + 1);
+        if (second < 0 || payload.substring(0, first).equals(nodeId)) {
+            return; // malformed, or our own echo (already applied locally)
+        }
+
+        String cacheName = payload.substring(first + 1, second);
+        String target = payload.substring(second + 1);
+        if (!cacheName.isEmpty() && cacheName.charAt(0) == TOPIC) {
+            deliver(cacheName.substring(1), target);
+            return;
+        }
+        CacheManager caches = local;
+        if (caches == null || !caches.getCacheNames().contains(cacheName)) {
+            return; // never used on this node, nothing to drop
+        }
+        Cache cache = caches.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (target.startsWith(KEY)) {
+            for (String key : target.substring(KEY.length()).split(LINE)) {
+                cache.evict(key);
+            }
+        } else if (target.startsWith(PREFIX)) {
+            evictPrefixed(cache, List.of(target.substring(PREFIX.length()).split(LINE)));
+        } else {
+            cache.clear();
+        }
+    }
+
+    private static void evictPrefixed(Cache cache, List<String> prefixes) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(key -> prefixes.stream().anyMatch(key.toString()::startsWith));
+        } else {
+            cache.clear();
+        }
+    }
+
+    // A failing subscriber must not take the listener down with it
+    private void deliver(String topic, String message) {
+        Subscriber subscriber = subscribers.get(topic);
+        if (subscriber == null) {
+            return;
+        }
+        try {
+            if (message.equals(CLEAR)) {
+                subscriber.onResync();
+            } else {
+                subscriber.onMessage(message);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Subscriber for topic '{}' failed on message '{}': {}", topic, message, ex.getMessage());
+        }
+    }
+
+    private void clearAll() {
+        CacheManager caches = local;
+        if (caches == null) {
+            return;
+        }
+        for (String name : caches.getCacheNames()) {
+            Cache cache = caches.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -------------------------------------------------
+    // LIFECYCLE
+    // -------------------------------------------------
+    @Override
+    public void start() {
+        if (!enabled || !isPostgres()) {
+            log.info("Cache invalidation broadcast disabled; caches are node-local");
+            return;
+        }
+        active = true;
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+        log.info("Cache invalidation listening on channel '{}' as node {}", channel, nodeId);
+    }
+
+    // The listener notices within one poll timeout and hands its connection back
+    @Override
+    public void stop() {
+        running = false;
+        active = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Receives a topic's messages from other nodes, on the listener thread.
+     */
+    public interface Subscriber {
+
+        void onMessage(String message);
+
+        // Messages may have been missed: rebuild the state from the database
+        void onResync();
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException ex) {
+            log.warn("Could not inspect the datasource for LISTEN/NOTIFY: {}", ex.getMessage());
+            return false;
+        }
+    }
+}
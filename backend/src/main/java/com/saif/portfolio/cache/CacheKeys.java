@@ -0,0 +1,25 @@
+package com.saif.portfolio.cache;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Entries to drop from one cache: exact keys plus key prefixes. Unlike a predicate it can
+ * be sent to the other nodes, which match it against entries this node may never have held.
+ */
+public record CacheKeys(Set<String> keys, Set<String> prefixes) {
+
+    public CacheKeys {
+        keys = Set.copyOf(keys);
+        prefixes = Set.copyOf(prefixes);
+    }
+
+    public static CacheKeys prefixed(Collection<String> prefixes) {
+        return new CacheKeys(Set.of(), Set.copyOf(prefixes));
+    }
+
+    public boolean matches(Object key) {
+        String text = key.toString();
+        return keys.contains(text) || prefixes.stream().anyMatch(text::startsWith);
+    }
+}
@@ -0,0 +1,209 @@
+package com.saif.portfolio.cache;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.util.ReflectionUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Lets Caffeine load and refresh entries of Spring's @Cacheable caches by itself.
+ *
+ * Every @Cacheable call is remembered per (cache, key) together with the proxy and
+ * arguments it was made with. The Caffeine loader replays that call through the proxy,
+ * so a miss is computed once while concurrent callers wait for it (single flight), and
+ * refreshAfterWrite reloads the entry on the reload executor while readers keep getting
+ * the old value. During a replay {@link ReloadingCache} hides the entry from the cache
+ * interceptor and hands the freshly computed value back here instead of storing it.
+ */
+public class CacheReloader implements AutoCloseable {
+
+    private final Cache<Target, Invocation> invocations;
+    private final ThreadLocal<Deque<Invocation>> current = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Capture> bypass = new ThreadLocal<>();
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public CacheReloader(int threads, int queueCapacity, long maxTrackedKeys) {
+        this.invocations = Caffeine.newBuilder().maximumSize(maxTrackedKeys).build();
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "cache-reload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // A full queue makes the reader reload synchronously rather than lose the refresh
+                (task, pool) -> {
+                    callerRuns.increment();
+                    if (!pool.isShutdown()) {
+                        task.run();
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    // Refreshes and Caffeine's maintenance run here
+    public Executor executor() {
+        return executor;
+    }
+
+    // -------------------------------------------------
+    // CALL TRACKING (RefreshAheadAspect)
+    // -------------------------------------------------
+    public void enter(Object proxy, Method method, Object[] args, Set<String> cacheNames) {
+        ReflectionUtils.makeAccessible(method);
+        current.get().push(new Invocation(proxy, method, args.clone(), cacheNames));
+    }
+
+    public void exit() {
+        Deque<Invocation> stack = current.get();
+        stack.pop();
+        if (stack.isEmpty()) {
+            current.remove();
+        }
+    }
+
+    // -------------------------------------------------
+    // CACHE HOOKS (ReloadingCache)
+    // -------------------------------------------------
+
+    // Records how to recompute the entry if the call in progress is the one that reads it
+    void remember(String cacheName, Object key) {
+        Invocation invocation = current.get().peek();
+        if (invocation != null && invocation.cacheNames().contains(cacheName)) {
+            invocations.put(new Target(cacheName, key), invocation);
+        }
+    }
+
+    boolean isReplaying(String cacheName, Object key) {
+        Capture capture = bypass.get();
+        return capture != null && capture.cacheName.equals(cacheName) && capture.key.equals(key);
+    }
+
+    void capture(Object value) {
+        Capture capture = bypass.get();
+        capture.value = value;
+        capture.done = true;
+    }
+
+    // -------------------------------------------------
+    // LOADING
+    // -------------------------------------------------
+    public CacheLoader<Object, Object> loaderFor(String cacheName) {
+        return new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                return replay(cacheName, key, loads);
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                return replay(cacheName, key, refreshes);
+            }
+        };
+    }
+
+    // null means "not loadable here": Caffeine stores nothing and the interceptor calls the method
+    private Object replay(String cacheName, Object key, LongAdder counter) {
+        Invocation invocation = invocations.getIfPresent(new Target(cacheName, key));
+        if (invocation == null) {
+            return null;
+        }
+
+        Capture outer = bypass.get();
+        Capture capture = new Capture(cacheName, key);
+        bypass.set(capture);
+        long start = System.nanoTime();
+        try {
+            invocation.method().invoke(invocation.proxy(), invocation.args());
+            counter.increment();
+            // Not captured: the interceptor declined to cache the result
+            return !capture.done ? null : capture.value == null ? NullValue.INSTANCE : capture.value;
+        } catch (InvocationTargetException ex) {
+            failures.increment();
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (IllegalAccessException ex) {
+            failures.increment();
+            throw new IllegalStateException(ex);
+        } finally {
+            loadNanos.add(System.nanoTime() - start);
+            if (outer == null) {
+                bypass.remove();
+            } else {
+                bypass.set(outer);
+            }
+        }
+    }
+
+    // -------------------------------------------------
+    // METRICS
+    // -------------------------------------------------
+    public Stats stats() {
+        long completed = loads.sum() + refreshes.sum() + failures.sum();
+        return new Stats(
+                loads.sum(),
+                refreshes.sum(),
+                failures.sum(),
+                callerRuns.sum(),
+                completed == 0 ? 0 : loadNanos.sum() / completed / 1_000_000.0,
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                invocations.estimatedSize()
+        );
+    }
+
+    public record Stats(long loads, long refreshes, long failures, long callerRuns,
+                        double averageLoadMillis, int activeReloads, int queuedReloads,
+                        long trackedKeys) {
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private record Invocation(Object proxy, Method method, Object[] args, Set<String> cacheNames) {
+    }
+
+    private record Target(String cacheName, Object key) {
+    }
+
+    private static final class Capture {
+        private final String cacheName;
+        private final Object key;
+        private Object value;
+        private boolean done;
+
+        private Capture(String cacheName, Object key) {
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+    }
+}
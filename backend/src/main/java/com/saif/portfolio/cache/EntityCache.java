@@ -0,0 +1,153 @@
+package com.saif.portfolio.cache;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Entity cache addressable by id and by slug. The value is stored once, under its id;
+ * the slug cache only maps a slug to that id, so both keys resolve to the same entry and
+ * a write invalidates just the entity's id plus the slugs it was known by. Misses on
+ * either key are loaded once however many requests wait on them.
+ *
+ * Keys are strings so evictions reach the other nodes as single-key evictions rather
+ * than clears (see {@link CacheInvalidationBus}).
+ */
+public class EntityCache<V> {
+
+    private final CacheManager cacheManager;
+    private final String idCacheName;
+    private final String slugCacheName;
+    private final Class<V> type;
+    private final Function<V, Integer> idOf;
+    private final Function<V, String> slugOf;
+
+    public EntityCache(CacheManager cacheManager, String idCacheName, String slugCacheName,
+                       Class<V> type, Function<V, Integer> idOf, Function<V, String> slugOf) {
+        this.cacheManager = cacheManager;
+        this.idCacheName = idCacheName;
+        this.slugCacheName = slugCacheName;
+        this.type = type;
+        this.idOf = idOf;
+        this.slugOf = slugOf;
+    }
+
+    // -------------------------------------------------
+    // READ
+    // -------------------------------------------------
+    public V getById(Integer id, Supplier<V> loader) {
+        Cache byId = cacheManager.getCache(idCacheName);
+        if (byId == null) {
+            return loader.get();
+        }
+
+        boolean[] loaded = {false};
+        V value = load(byId, idKey(id), () -> {
+            loaded[0] = true;
+            return loader.get();
+        });
+        // Outside the load: Caffeine forbids touching other entries while computing one
+        if (loaded[0]) {
+            Cache bySlug = cacheManager.getCache(slugCacheName);
+            if (bySlug != null) {
+                bySlug.put(slugKey(slugOf.apply(value)), idKey(id));
+            }
+        }
+        return value;
+    }
+
+    public V getBySlug(String slug, Supplier<V> loader) {
+        Cache byId = cacheManager.getCache(idCacheName);
+        Cache bySlug = cacheManager.getCache(slugCacheName);
+        if (byId == null || bySlug == null) {
+            return loader.get();
+        }
+
+        String slugKey = slugKey(slug);
+        String cachedId = bySlug.get(slugKey, String.class);
+        if (cachedId != null) {
+            V cached = byId.get(cachedId, type);
+            if (cached != null && slugKey.equals(slugKey(slugOf.apply(cached)))) {
+                return cached;
+            }
+            // The id entry expired on its own or the alias outlived a rename on another node
+            bySlug.evict(slugKey);
+        }
+
+        // The value goes into the id cache from inside the slug load (a different cache)
+        Object[] loaded = {null};
+        String id = load(bySlug, slugKey, () -> {
+            V value = loader.get();
+            byId.put(idKey(idOf.apply(value)), value);
+            loaded[0] = value;
+            return idKey(idOf.apply(value));
+        });
+        if (loaded[0] != null) {
+            return type.cast(loaded[0]);
+        }
+
+        // Another request loaded it while this one waited
+        V cached = byId.get(id, type);
+        return cached != null ? cached : loader.get();
+    }
+
+    // -------------------------------------------------
+    // INVALIDATE
+    // -------------------------------------------------
+
+    // Pass every slug the entities may be cached under (old and new on a rename)
+    public void evict(Collection<Integer> ids, Collection<String> slugs) {
+        Cache byId = cacheManager.getCache(idCacheName);
+        if (byId != null) {
+            ids.stream()
+                    .distinct()
+                    .forEach(id -> byId.evict(idKey(id)));
+        }
+        Cache bySlug = cacheManager.getCache(slugCacheName);
+        if (bySlug != null) {
+            slugs.stream()
+                    .filter(slug -> slug != null)
+                    .map(EntityCache::slugKey)
+                    .distinct()
+                    .forEach(bySlug::evict);
+        }
+    }
+
+    public void clear() {
+        Cache byId = cacheManager.getCache(idCacheName);
+        if (byId != null) {
+            byId.clear();
+        }
+        Cache bySlug = cacheManager.getCache(slugCacheName);
+        if (bySlug != null) {
+            bySlug.clear();
+        }
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    private static String idKey(Integer id) {
+        return id.toString();
+    }
+
+    private static String slugKey(String slug) {
+        return slug.toLowerCase();
+    }
+
+    // Loader exceptions (e.g. ResourceNotFoundException) reach the caller unwrapped
+    private static <T> T load(Cache cache, String key, Callable<T> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw ex;
+        }
+    }
+}
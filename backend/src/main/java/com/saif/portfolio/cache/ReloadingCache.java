@@ -0,0 +1,99 @@
+package com.saif.portfolio.cache;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+
+/**
+ * Spring cache over a Caffeine LoadingCache driven by {@link CacheReloader}. Reads made
+ * from a @Cacheable call remember that call so Caffeine can replay it; while a replay
+ * is running the entry being recomputed looks absent and its new value is captured
+ * instead of written, so Caffeine alone decides when the entry is replaced.
+ */
+public class ReloadingCache implements Cache {
+
+    private final Cache local;
+    private final CacheReloader reloader;
+
+    public ReloadingCache(Cache local, CacheReloader reloader) {
+        this.local = local;
+        this.reloader = reloader;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (reloader.isReplaying(getName(), key)) {
+            return null;
+        }
+        reloader.remember(getName(), key);
+        return local.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        if (reloader.isReplaying(getName(), key)) {
+            return null;
+        }
+        return local.get(key, type);
+    }
+
+    // sync = true reads; the value loader is only called when nothing was remembered yet
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (reloader.isReplaying(getName(), key)) {
+            try {
+                T value = valueLoader.call();
+                reloader.capture(value);
+                return value;
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+        }
+        reloader.remember(getName(), key);
+        return local.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (reloader.isReplaying(getName(), key)) {
+            reloader.capture(value);
+            return;
+        }
+        local.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return local.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return local.invalidate();
+    }
+}
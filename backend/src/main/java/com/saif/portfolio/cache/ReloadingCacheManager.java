@@ -0,0 +1,41 @@
+package com.saif.portfolio.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Wraps the caches whose Caffeine store was built with a {@link CacheReloader} loader in
+ * {@link ReloadingCache}; every other cache is returned as is.
+ */
+public class ReloadingCacheManager implements CacheManager {
+
+    private final CacheManager local;
+    private final CacheReloader reloader;
+    private final Set<String> reloading;
+    private final Map<String, ReloadingCache> caches = new ConcurrentHashMap<>();
+
+    public ReloadingCacheManager(CacheManager local, CacheReloader reloader, Set<String> reloading) {
+        this.local = local;
+        this.reloader = reloader;
+        this.reloading = Set.copyOf(reloading);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache target = local.getCache(name);
+        if (target == null || !reloading.contains(name)) {
+            return target;
+        }
+        return caches.computeIfAbsent(name, n -> new ReloadingCache(target, reloader));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return local.getCacheNames();
+    }
+}
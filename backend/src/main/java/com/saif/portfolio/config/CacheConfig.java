@@ -1,23 +1,144 @@
 package com.saif.portfolio.config;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.concurrent.TimeUnit;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.saif.portfolio.cache.BroadcastingCacheManager;
+import com.saif.portfolio.cache.CacheInvalidationBus;
+import com.saif.portfolio.cache.CacheReloader;
+import com.saif.portfolio.cache.ReloadingCacheManager;
 
+/**
+ * One Caffeine spec per cache from app.cache.specs.&lt;name&gt; (CaffeineSpec syntax), the
+ * rest fall back to app.cache.default-spec. Caches sized with maximumWeight are weighed
+ * by the estimated serialized size of each entry in bytes, so the sum of the weights is
+ * a rough bound on the heap the caches can hold. Configured caches load through
+ * {@link CacheReloader}, so a miss is computed once however many requests wait on it and
+ * refreshAfterWrite reloads in the background. Evictions are broadcast to the other
+ * nodes through {@link CacheInvalidationBus}.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
+
+    // Key, node and reference overhead charged to every entry on top of its value
+    private static final int ENTRY_OVERHEAD = 128;
+
+    // Private mapper: no web modules, never fails on beans it cannot describe
+    private static final ObjectMapper SIZER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheInvalidationBus cacheInvalidationBus(
+            DataSource dataSource,
+            @Value("${app.cache.invalidation.channel:cache_invalidation}") String channel,
+            @Value("${app.cache.invalidation.enabled:true}") boolean enabled) {
+        return new CacheInvalidationBus(dataSource, channel, enabled);
+    }
+
+    @Bean
+    public CacheReloader cacheReloader(
+            @Value("${app.cache.reload.threads:2}") int threads,
+            @Value("${app.cache.reload.queue-capacity:100}") int queueCapacity,
+            @Value("${app.cache.reload.max-tracked-keys:10000}") long maxTrackedKeys) {
+        return new CacheReloader(threads, queueCapacity, maxTrackedKeys);
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            Environment environment,
+            CacheInvalidationBus cacheInvalidationBus,
+            CacheReloader cacheReloader,
+            @Value("${app.cache.default-spec:maximumWeight=1048576,expireAfterWrite=1h,recordStats}")
+            String defaultSpec,
+            @Value("${app.cache.reload.exclude:}") Set<String> notLoaded) {
+
+        Map<String, String> specs = Binder.get(environment)
+                .bind("app.cache.specs", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .maximumSize(100)
-            .expireAfterWrite(1, TimeUnit.HOURS));
-        return cacheManager;
+        cacheManager.setCaffeine(builder(defaultSpec));
+
+        long totalWeight = 0;
+        Set<String> loaded = new HashSet<>();
+        for (Map.Entry<String, String> spec : specs.entrySet()) {
+            String name = spec.getKey();
+            Caffeine<Object, Object> builder = builder(spec.getValue());
+            if (notLoaded.contains(name)) {
+                cacheManager.registerCustomCache(name, builder.build());
+            } else {
+                builder.executor(cacheReloader.executor());
+                cacheManager.registerCustomCache(name, builder.build(cacheReloader.loaderFor(name)));
+                loaded.add(name);
+            }
+            totalWeight += maximumWeight(spec.getValue());
+        }
+        log.info("Configured {} caches with a combined budget of ~{} KB (plus {} KB per other cache)",
+                specs.size(), totalWeight / 1024, maximumWeight(defaultSpec) / 1024);
+
+        // Evictions go to every node; remote ones land on the local manager directly
+        cacheInvalidationBus.attach(cacheManager);
+        return new BroadcastingCacheManager(
+                new ReloadingCacheManager(cacheManager, cacheReloader, loaded), cacheInvalidationBus);
     }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    private static Caffeine<Object, Object> builder(String spec) {
+        Caffeine<Object, Object> builder = Caffeine.from(CaffeineSpec.parse(spec));
+        // Caffeine rejects a weigher without maximumWeight, and maximumWeight without one
+        return spec.contains("maximumWeight") ? builder.weigher(SERIALIZED_SIZE) : builder;
+    }
+
+    private static long maximumWeight(String spec) {
+        for (String option : spec.split(",")) {
+            String[] pair = option.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].trim().equals("maximumWeight")) {
+                return Long.parseLong(pair[1].trim());
+            }
+        }
+        return 0;
+    }
+
+    // Estimated bytes held by an entry; values Jackson cannot write get a flat 1 KB
+    private static final Weigher<Object, Object> SERIALIZED_SIZE = (key, value) -> {
+        long size;
+        if (value instanceof byte[] bytes) {
+            size = bytes.length;
+        } else if (value instanceof CharSequence text) {
+            size = 2L * text.length();
+        } else {
+            try {
+                size = SIZER.writeValueAsBytes(value).length;
+            } catch (Exception ex) {
+                size = 1024;
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size + ENTRY_OVERHEAD);
+    };
 }
@@ -0,0 +1,78 @@
+package com.saif.portfolio.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Adds the full-text search columns and indexes that Hibernate's ddl-auto cannot express
+ * (generated tsvector columns, GIN indexes). schema.sql defines the same objects for fresh
+ * databases; every statement here is idempotent, so it is safe on those and on databases
+ * Hibernate created or extended. Runs once the EntityManagerFactory has applied its own
+ * schema update, before the application starts serving.
+ */
+@Component
+public class SearchSchemaMigration implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchSchemaMigration.class);
+
+    // Expressions must stay identical to schema.sql
+    private static final List<String> STATEMENTS = List.of(
+            """
+            ALTER TABLE blogs ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+                setweight(to_tsvector('english', title), 'A') ||
+                setweight(to_tsvector('english', summary || ' ' || category), 'B') ||
+                setweight(to_tsvector('english', content), 'D')
+            ) STORED
+            """,
+            """
+            ALTER TABLE project_cards ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+                setweight(to_tsvector('english', title), 'A') ||
+                setweight(to_tsvector('english', coalesce(description, '')), 'B') ||
+                setweight(to_tsvector('english', coalesce(key_features, '')), 'C')
+            ) STORED
+            """,
+            "CREATE INDEX IF NOT EXISTS idx_blogs_search ON blogs USING GIN (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_project_cards_search ON project_cards USING GIN (search_vector)"
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    // The EntityManagerFactory is only injected so its schema update has run first
+    public SearchSchemaMigration(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                 EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isPostgres()) {
+            log.info("Skipping search schema migration: not a PostgreSQL datasource");
+            return;
+        }
+        STATEMENTS.forEach(jdbcTemplate::execute);
+        log.info("Search columns and indexes are in place");
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException ex) {
+            log.warn("Could not inspect the datasource for the search migration: {}", ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -75,6 +75,10 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/certificates/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/skills/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/projects/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/search").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/suggest").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/trending").permitAll()
+                .requestMatchers(HttpMethod.GET, "/feed.xml", "/sitemap.xml").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/contacts").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/images/**").permitAll()
                 .requestMatchers(HttpMethod.DELETE, "/api/images/**").permitAll()
@@ -1,5 +1,7 @@
 package com.saif.portfolio.controller;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,12 +16,20 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.saif.portfolio.dto.ApiResponse;
+import com.saif.portfolio.dto.BlogDetailResponse;
+import com.saif.portfolio.dto.BlogHtmlResponse;
 import com.saif.portfolio.dto.BlogListResponse;
 import com.saif.portfolio.dto.BlogRequest;
+import com.saif.portfolio.dto.BlogResponse;
+import com.saif.portfolio.dto.BlogSectionResponse;
 import com.saif.portfolio.dto.PagedResponse;
-import com.saif.portfolio.model.Blog;
+import com.saif.portfolio.dto.RelatedBlogResponse;
 import com.saif.portfolio.service.BlogService;
+import com.saif.portfolio.service.TrendingService;
+import com.saif.portfolio.service.ViewCountService;
+import com.saif.portfolio.util.RequestUtil;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +40,8 @@ public class BlogController {
 
     // ✅ Always depend on interface (not impl)
     private final BlogService blogService;
+    private final ViewCountService viewCountService;
+    private final TrendingService trendingService;
 
     // ----------------------------------------------------------------
     // GET ALL BLOGS (PAGINATED)
@@ -59,8 +71,8 @@ public class BlogController {
     // GET BLOG BY ID
     // ----------------------------------------------------------------
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Blog>> getBlogById(@PathVariable Integer id) {
-        Blog blog = blogService.getBlogById(id);
+    public ResponseEntity<ApiResponse<BlogResponse>> getBlogById(@PathVariable Integer id) {
+        BlogResponse blog = blogService.getBlogById(id);
         return ResponseEntity.ok(
                 new ApiResponse<>(HttpStatus.OK.value(), "Blog fetched successfully", blog)
         );
@@ -70,10 +82,52 @@ public class BlogController {
     // GET BLOG BY SLUG (SEO FRIENDLY)
     // ----------------------------------------------------------------
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<ApiResponse<Blog>> getBlogBySlug(@PathVariable String slug) {
-        Blog blog = blogService.getBlogBySlug(slug);
+    public ResponseEntity<ApiResponse<BlogDetailResponse>> getBlogBySlug(
+            @PathVariable String slug,
+            HttpServletRequest request) {
+        BlogDetailResponse blog = blogService.getBlogBySlug(slug);
+        // Counted only once the slug resolved; the cached response is copied, not mutated
+        long views = viewCountService.recordView(ViewCountService.BLOG, blog.getSlug());
+        trendingService.record(ViewCountService.BLOG, blog.getSlug(), blog.getTitle(),
+                RequestUtil.visitorHash(request));
         return ResponseEntity.ok(
-                new ApiResponse<>(HttpStatus.OK.value(), "Blog fetched successfully", blog)
+                new ApiResponse<>(HttpStatus.OK.value(), "Blog fetched successfully",
+                        blog.toBuilder().views(views).build())
+        );
+    }
+
+    // ----------------------------------------------------------------
+    // GET ONE BLOG SECTION (LAZY LOAD ON SCROLL)
+    // ----------------------------------------------------------------
+    @GetMapping("/slug/{slug}/sections/{position}")
+    public ResponseEntity<ApiResponse<BlogSectionResponse>> getBlogSection(
+            @PathVariable String slug,
+            @PathVariable int position) {
+        BlogSectionResponse section = blogService.getBlogSection(slug, position);
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(), "Blog section fetched successfully", section)
+        );
+    }
+
+    // ----------------------------------------------------------------
+    // GET RELATED BLOGS
+    // ----------------------------------------------------------------
+    @GetMapping("/slug/{slug}/related")
+    public ResponseEntity<ApiResponse<List<RelatedBlogResponse>>> getRelatedBlogs(@PathVariable String slug) {
+        List<RelatedBlogResponse> related = blogService.getRelatedBlogs(slug);
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(), "Related blogs fetched successfully", related)
+        );
+    }
+
+    // ----------------------------------------------------------------
+    // GET PRE-RENDERED BLOG HTML BY SLUG
+    // ----------------------------------------------------------------
+    @GetMapping("/slug/{slug}/html")
+    public ResponseEntity<ApiResponse<BlogHtmlResponse>> getBlogHtml(@PathVariable String slug) {
+        BlogHtmlResponse html = blogService.getBlogHtml(slug);
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(), "Blog HTML fetched successfully", html)
         );
     }
 
@@ -107,10 +161,10 @@ public class BlogController {
     // CREATE BLOG
     // ----------------------------------------------------------------
     @PostMapping
-    public ResponseEntity<ApiResponse<Blog>> createBlog(
+    public ResponseEntity<ApiResponse<BlogResponse>> createBlog(
             @Valid @RequestBody BlogRequest blogRequest) {
 
-        Blog blog = blogService.createBlog(blogRequest);
+        BlogResponse blog = blogService.createBlog(blogRequest);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponse<>(
@@ -124,11 +178,11 @@ public class BlogController {
     // UPDATE BLOG
     // ----------------------------------------------------------------
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<Blog>> updateBlog(
+    public ResponseEntity<ApiResponse<BlogResponse>> updateBlog(
             @PathVariable Integer id,
             @Valid @RequestBody BlogRequest blogRequest) {
 
-        Blog blog = blogService.updateBlog(id, blogRequest);
+        BlogResponse blog = blogService.updateBlog(id, blogRequest);
 
         return ResponseEntity.ok(
                 new ApiResponse<>(HttpStatus.OK.value(), "Blog updated successfully", blog)
@@ -139,9 +193,9 @@ public class BlogController {
     // DELETE BLOG
     // ----------------------------------------------------------------
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Blog>> deleteBlog(@PathVariable Integer id) {
+    public ResponseEntity<ApiResponse<BlogResponse>> deleteBlog(@PathVariable Integer id) {
 
-        Blog blog = blogService.deleteBlog(id);
+        BlogResponse blog = blogService.deleteBlog(id);
 
         return ResponseEntity.ok(
                 new ApiResponse<>(HttpStatus.OK.value(), "Blog deleted successfully", blog)
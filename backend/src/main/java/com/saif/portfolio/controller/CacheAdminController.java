@@ -0,0 +1,93 @@
+package com.saif.portfolio.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.saif.portfolio.dto.ApiResponse;
+import com.saif.portfolio.dto.CacheOverviewResponse;
+import com.saif.portfolio.dto.CacheStatsResponse;
+import com.saif.portfolio.service.CacheAdminService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    // -------------------------------------------------
+    // INSPECT
+    // -------------------------------------------------
+    @GetMapping
+    public ResponseEntity<ApiResponse<CacheOverviewResponse>> getCaches() {
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(), "Caches fetched successfully", cacheAdminService.getCaches())
+        );
+    }
+
+    @GetMapping("/{name}")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getCache(@PathVariable String name) {
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(), "Cache fetched successfully", cacheAdminService.getCache(name))
+        );
+    }
+
+    // e.g. /api/admin/caches/projectIdBySlug/keys?limit=50
+    @GetMapping("/{name}/keys")
+    public ResponseEntity<ApiResponse<List<String>>> getKeys(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(), "Cache keys fetched successfully",
+                        cacheAdminService.getKeys(name, limit))
+        );
+    }
+
+    // -------------------------------------------------
+    // EVICT
+    // -------------------------------------------------
+    // e.g. DELETE /api/admin/caches/projectById/keys?key=42
+    @DeleteMapping("/{name}/keys")
+    public ResponseEntity<ApiResponse<Boolean>> evictKey(
+            @PathVariable String name,
+            @RequestParam String key) {
+
+        boolean found = cacheAdminService.evictKey(name, key);
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(),
+                        found ? "Cache entry evicted" : "Entry not cached on this node; eviction broadcast",
+                        found)
+        );
+    }
+
+    @DeleteMapping("/{name}")
+    public ResponseEntity<ApiResponse<Void>> clearCache(@PathVariable String name) {
+        cacheAdminService.clearCache(name);
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), "Cache cleared", null));
+    }
+
+    // -------------------------------------------------
+    // WARM
+    // -------------------------------------------------
+    // e.g. POST /api/admin/caches/warm?names=allProjects,blogList (no names = every warmable cache)
+    @PostMapping("/warm")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> warmCaches(
+            @RequestParam(required = false) List<String> names) {
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(), "Caches warmed", cacheAdminService.warmCaches(names))
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.saif.portfolio.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.saif.portfolio.service.ExportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    // -------------------------------------------------
+    // FULL CONTENT BACKUP (NDJSON)
+    // -------------------------------------------------
+    // One {"type": ..., "data": ...} line per skill, project, blog and certificate
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportAll() {
+
+        StreamingResponseBody body = exportService::exportAll;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"portfolio-export-" + LocalDate.now() + ".ndjson\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,85 @@
+package com.saif.portfolio.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.saif.portfolio.dto.RenderedDocument;
+import com.saif.portfolio.filter.ConditionalGetFilter;
+import com.saif.portfolio.service.FeedService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class FeedController {
+
+    private static final MediaType RSS = MediaType.parseMediaType("application/rss+xml;charset=UTF-8");
+
+    private final FeedService feedService;
+
+    // -------------------------------------------------
+    // RSS FEED (latest blogs)
+    // -------------------------------------------------
+    @GetMapping("/feed.xml")
+    public ResponseEntity<byte[]> getFeed(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serve(feedService.getFeed(), RSS, ifNoneMatch, acceptEncoding);
+    }
+
+    // -------------------------------------------------
+    // SITEMAP (blogs + published projects)
+    // -------------------------------------------------
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> getSitemap(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serve(feedService.getSitemap(), MediaType.APPLICATION_XML, ifNoneMatch, acceptEncoding);
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    // Bytes are prepared at write time; this only picks the encoding or answers 304
+    private ResponseEntity<byte[]> serve(RenderedDocument doc, MediaType type,
+                                         String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip
+                ? doc.getEtag().substring(0, doc.getEtag().length() - 1) + ConditionalGetFilter.GZIP_ETAG_SUFFIX + "\""
+                : doc.getEtag();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.contentType(type).body(gzip ? doc.getGzip() : doc.getBody());
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
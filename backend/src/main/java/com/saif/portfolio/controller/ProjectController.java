@@ -1,9 +1,11 @@
 package com.saif.portfolio.controller;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,12 +20,21 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.saif.portfolio.dto.ApiResponse;
 import com.saif.portfolio.dto.PagedResponse;
+import com.saif.portfolio.dto.ProjectFilter;
+import com.saif.portfolio.dto.ProjectFlagsRequest;
+import com.saif.portfolio.dto.ProjectFlagsResponse;
+import com.saif.portfolio.dto.ProjectImportResponse;
 import com.saif.portfolio.dto.ProjectRequest;
 import com.saif.portfolio.dto.ProjectResponse;
+import com.saif.portfolio.dto.RelatedProjectResponse;
 import com.saif.portfolio.dto.SimpleProjectResponse;
 import com.saif.portfolio.model.ProjectType;
 import com.saif.portfolio.service.ProjectService;
+import com.saif.portfolio.service.TrendingService;
+import com.saif.portfolio.service.ViewCountService;
+import com.saif.portfolio.util.RequestUtil;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -34,6 +45,8 @@ public class ProjectController {
 
     // ✅ ALWAYS inject interface (not impl)
     private final ProjectService projectService;
+    private final ViewCountService viewCountService;
+    private final TrendingService trendingService;
 
     // -------------------------------------------------
     // GET ALL PROJECTS
@@ -77,6 +90,61 @@ public class ProjectController {
         );
     }
 
+    // -------------------------------------------------
+    // FILTER PROJECTS (PAGINATED)
+    // -------------------------------------------------
+    // e.g. /filter?tech=java,react&match=any&type=personal&featured=true
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse<PagedResponse<SimpleProjectResponse>>> filterProjects(
+            @RequestParam(required = false) List<String> tech,
+            @RequestParam(defaultValue = "all") String match,
+            @RequestParam(required = false) List<String> type,
+            @RequestParam(required = false) Boolean live,
+            @RequestParam(required = false) Boolean published,
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "6") int size) {
+
+        List<ProjectType> types;
+        try {
+            types = type == null ? List.of() : type.stream().map(ProjectType::fromValue).toList();
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(400, "Invalid project type", null));
+        }
+        if (!match.equalsIgnoreCase("all") && !match.equalsIgnoreCase("any")) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(400, "match must be 'all' or 'any'", null));
+        }
+
+        ProjectFilter filter = ProjectFilter.builder()
+                .technologies(tech)
+                .matchAllTechnologies(match.equalsIgnoreCase("all"))
+                .types(types)
+                .live(live)
+                .published(published)
+                .featured(featured)
+                .build();
+
+        Page<SimpleProjectResponse> pageData = projectService.filterProjects(filter, page, size);
+
+        PagedResponse<SimpleProjectResponse> response =
+                new PagedResponse<>(
+                        pageData.getContent(),
+                        pageData.getNumber(),
+                        pageData.getSize(),
+                        pageData.getTotalElements(),
+                        pageData.getTotalPages(),
+                        pageData.isLast()
+                );
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(),
+                        "Projects filtered successfully",
+                        response)
+        );
+    }
+
     // -------------------------------------------------
     // GET FEATURED PROJECTS
     // -------------------------------------------------
@@ -112,13 +180,36 @@ public class ProjectController {
     // -------------------------------------------------
     @GetMapping("/slug/{slug}")
     public ResponseEntity<ApiResponse<ProjectResponse>> getProjectBySlug(
-            @PathVariable String slug) {
+            @PathVariable String slug,
+            HttpServletRequest request) {
+
+        // Counted only once the slug resolved; the cached response is copied, not mutated
+        ProjectResponse project = projectService.getProjectBySlug(slug);
+        long views = viewCountService.recordView(ViewCountService.PROJECT, project.getSlug());
+        trendingService.record(ViewCountService.PROJECT, project.getSlug(), project.getTitle(),
+                RequestUtil.visitorHash(request));
 
         return ResponseEntity.ok(
                 new ApiResponse<>(
                         HttpStatus.OK.value(),
                         "Project fetched successfully",
-                        projectService.getProjectBySlug(slug)
+                        project.toBuilder().views(views).build()
+                )
+        );
+    }
+
+    // -------------------------------------------------
+    // GET RELATED PROJECTS
+    // -------------------------------------------------
+    @GetMapping("/slug/{slug}/related")
+    public ResponseEntity<ApiResponse<List<RelatedProjectResponse>>> getRelatedProjects(
+            @PathVariable String slug) {
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(
+                        HttpStatus.OK.value(),
+                        "Related projects fetched successfully",
+                        projectService.getRelatedProjects(slug)
                 )
         );
     }
@@ -132,7 +223,7 @@ public class ProjectController {
 
         ProjectType projectType;
         try {
-            projectType = ProjectType.valueOf(type.toUpperCase());
+            projectType = ProjectType.fromValue(type);
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse<>(400, "Invalid project type", null));
@@ -236,4 +327,41 @@ public class ProjectController {
                 )
         );
     }
+
+    // -------------------------------------------------
+    // BULK FLAGS
+    // -------------------------------------------------
+    @PatchMapping("/flags")
+    public ResponseEntity<ApiResponse<List<ProjectFlagsResponse>>> updateFlags(
+            @Valid @RequestBody ProjectFlagsRequest request) {
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(
+                        HttpStatus.OK.value(),
+                        "Project flags updated",
+                        projectService.updateFlags(request)
+                )
+        );
+    }
+
+    // -------------------------------------------------
+    // BULK IMPORT (JSON ARRAY OR NDJSON, STREAMED)
+    // -------------------------------------------------
+    @PostMapping(
+            value = "/import",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE}
+    )
+    public ResponseEntity<ApiResponse<ProjectImportResponse>> importProjects(
+            HttpServletRequest request) throws IOException {
+
+        ProjectImportResponse result = projectService.importProjects(request.getInputStream());
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(
+                        HttpStatus.OK.value(),
+                        "Imported " + result.getImported() + " of " + result.getTotal() + " projects",
+                        result
+                )
+        );
+    }
 }
@@ -0,0 +1,58 @@
+package com.saif.portfolio.controller;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.saif.portfolio.dto.ApiResponse;
+import com.saif.portfolio.dto.PagedResponse;
+import com.saif.portfolio.dto.SearchResultResponse;
+import com.saif.portfolio.service.SearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // -------------------------------------------------
+    // FULL-TEXT SEARCH (BLOGS + PROJECTS, PAGINATED)
+    // -------------------------------------------------
+    // e.g. /api/search?q=spring cache -react&page=0&size=10 (web search syntax)
+    @GetMapping
+    public ResponseEntity<ApiResponse<PagedResponse<SearchResultResponse>>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(400, "Search query must not be blank", null));
+        }
+
+        Page<SearchResultResponse> pageData = searchService.search(q, page, size);
+
+        PagedResponse<SearchResultResponse> response =
+                new PagedResponse<>(
+                        pageData.getContent(),
+                        pageData.getNumber(),
+                        pageData.getSize(),
+                        pageData.getTotalElements(),
+                        pageData.getTotalPages(),
+                        pageData.isLast()
+                );
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(),
+                        "Search results fetched successfully",
+                        response)
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.saif.portfolio.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.saif.portfolio.dto.ApiResponse;
+import com.saif.portfolio.dto.SuggestionResponse;
+import com.saif.portfolio.service.SuggestService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SuggestService suggestService;
+
+    // -------------------------------------------------
+    // TYPEAHEAD (SKILLS, PROJECTS, BLOGS, CATEGORIES)
+    // -------------------------------------------------
+    // e.g. /api/suggest?prefix=spr&limit=8
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit) {
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(),
+                        "Suggestions fetched successfully",
+                        suggestService.suggest(prefix, limit))
+        );
+    }
+}
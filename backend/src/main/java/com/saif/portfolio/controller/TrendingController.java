@@ -0,0 +1,43 @@
+package com.saif.portfolio.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.saif.portfolio.dto.ApiResponse;
+import com.saif.portfolio.dto.TrendingResponse;
+import com.saif.portfolio.service.TrendingService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/trending")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    // -------------------------------------------------
+    // TRENDING BLOGS + PROJECTS
+    // -------------------------------------------------
+    // e.g. /api/trending?sort=visitors&limit=5 (sort = views | visitors)
+    @GetMapping
+    public ResponseEntity<ApiResponse<TrendingResponse>> getTrending(
+            @RequestParam(defaultValue = "views") String sort,
+            @RequestParam(defaultValue = "5") int limit) {
+
+        if (!sort.equalsIgnoreCase("views") && !sort.equalsIgnoreCase("visitors")) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(400, "sort must be 'views' or 'visitors'", null));
+        }
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(HttpStatus.OK.value(),
+                        "Trending content fetched successfully",
+                        trendingService.getTrending(sort.equalsIgnoreCase("visitors"), Math.max(0, limit)))
+        );
+    }
+}
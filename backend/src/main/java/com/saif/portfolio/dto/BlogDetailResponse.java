@@ -0,0 +1,32 @@
+package com.saif.portfolio.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Blog detail without the full body: TOC plus the first sections, the rest via /sections/{n}
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogDetailResponse {
+    private Integer id;
+    private String title;
+    private String slug;
+    private String summary;
+    private String category;
+    private String readTime;
+    private String author;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private ImageUploadResponse image;
+    private String contentHash;
+    private int totalSections;
+    private List<BlogTocEntry> toc;
+    private List<BlogSectionResponse> sections;
+    private long views; // 🔹 set per request by the controller, never cached
+}
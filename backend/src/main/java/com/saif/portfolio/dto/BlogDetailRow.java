@@ -0,0 +1,31 @@
+package com.saif.portfolio.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One row of the blog detail query: post columns repeated per section (section columns null when it has none)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogDetailRow {
+    private Integer id;
+    private String title;
+    private String slug;
+    private String summary;
+    private String category;
+    private String readTime;
+    private String author;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private String contentHash;
+    private String imagePublicId;
+    private String imageUrl;
+    private Integer position;
+    private Integer level;
+    private String heading;
+    private String anchor;
+    private String html; // 🔹 only for the first sections, null past them
+}
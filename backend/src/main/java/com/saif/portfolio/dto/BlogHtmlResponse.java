@@ -0,0 +1,14 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogHtmlResponse {
+    private String slug;
+    private String contentHash; // 🔹 changes only when the Markdown source changes
+    private String html;
+}
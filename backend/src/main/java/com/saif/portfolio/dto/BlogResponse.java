@@ -0,0 +1,27 @@
+package com.saif.portfolio.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Editable blog (Markdown source included) for the admin editor and write endpoints
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogResponse {
+    private Integer id;
+    private String title;
+    private String slug;
+    private String summary;
+    private String content;
+    private String category;
+    private String readTime;
+    private String author;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private ImageUploadResponse image;
+}
@@ -0,0 +1,16 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogSectionResponse {
+    private int position;
+    private int level;     // 🔹 0 for the intro before the first heading
+    private String heading;
+    private String anchor;
+    private String html;
+}
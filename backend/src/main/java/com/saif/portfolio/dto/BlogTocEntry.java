@@ -0,0 +1,15 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogTocEntry {
+    private int position;  // 🔹 pass to /sections/{position}
+    private int level;
+    private String heading;
+    private String anchor;
+}
@@ -0,0 +1,17 @@
+package com.saif.portfolio.dto;
+
+import java.util.List;
+
+import com.saif.portfolio.cache.CacheReloader;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheOverviewResponse {
+    private List<CacheStatsResponse> caches;
+    private CacheReloader.Stats reload; // 🔹 background reload pool and replay counters
+}
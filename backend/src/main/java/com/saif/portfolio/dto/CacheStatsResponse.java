@@ -0,0 +1,25 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String name;
+    private long size; // 🔹 estimated entry count
+    private Long weightedSize; // 🔹 estimated bytes held; null for caches bounded by count
+    private Long maximumWeight;
+    private long hitCount;
+    private long missCount;
+    private double hitRatio; // 🔹 1.0 until the first request
+    private long evictionCount;
+    private long loadFailureCount;
+    private double averageLoadMillis;
+    private Long oldestEntryAgeSeconds; // 🔹 since the oldest entry was loaded or refreshed; null if empty
+    private boolean refreshAhead;
+}
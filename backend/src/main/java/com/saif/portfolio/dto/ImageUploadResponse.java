@@ -1,5 +1,7 @@
 package com.saif.portfolio.dto;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,6 +10,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ImageUploadResponse {
+
+    @NotBlank(message = "Image public id must not be blank")
+    @Size(max = 255, message = "Image public id must be at most 255 characters")
     private String publicId;
+
+    @NotBlank(message = "Image URL must not be blank")
+    @Size(max = 255, message = "Image URL must be at most 255 characters")
     private String url;
 }
@@ -0,0 +1,24 @@
+package com.saif.portfolio.dto;
+
+import java.util.List;
+
+import com.saif.portfolio.model.ProjectType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Facets are ANDed together; empty or null facets do not filter
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFilter {
+    private List<String> technologies;
+    private boolean matchAllTechnologies; // 🔹 true = AND, false = OR
+    private List<ProjectType> types;      // 🔹 ORed
+    private Boolean live;
+    private Boolean published;
+    private Boolean featured;
+}
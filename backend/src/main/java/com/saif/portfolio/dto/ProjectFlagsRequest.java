@@ -0,0 +1,34 @@
+package com.saif.portfolio.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFlagsRequest {
+
+    @NotEmpty(message = "Project ids must not be empty")
+    @Size(max = 500, message = "At most 500 projects can be updated at once")
+    private List<@NotNull(message = "Project id must not be null") Integer> ids;
+
+    // null = leave unchanged
+    private Boolean live;
+    private Boolean published;
+    private Boolean featured;
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one flag must be provided")
+    public boolean isAnyFlagSet() {
+        return live != null || published != null || featured != null;
+    }
+}
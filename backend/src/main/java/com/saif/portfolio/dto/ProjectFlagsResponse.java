@@ -0,0 +1,16 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFlagsResponse {
+    private Integer id;
+    private String slug;
+    private boolean live;
+    private boolean published;
+    private boolean featured;
+}
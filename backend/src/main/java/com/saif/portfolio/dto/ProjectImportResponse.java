@@ -0,0 +1,26 @@
+package com.saif.portfolio.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectImportResponse {
+    private int total;
+    private int imported;
+    private int failed;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int row; // 🔹 1-based position in the upload
+        private String slug;
+        private String message;
+    }
+}
@@ -6,6 +6,7 @@ import org.hibernate.validator.constraints.UniqueElements;
 
 import com.saif.portfolio.model.ProjectType;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -56,7 +57,7 @@ public class ProjectRequest {
 
     @NotNull(message = "Images must not be null")
     @Size(min = 1, message = "At least one image is required")
-    private List<ImageUploadResponse> images;
+    private List<@NotNull(message = "Image must not be null") @Valid ImageUploadResponse> images;
 
     @NotNull(message = "Technologies must not be null")
     @Size(min = 1, message = "At least one technology is required")
@@ -6,7 +6,7 @@ import java.util.List;
 import lombok.Data;
 
 @Data
-@lombok.Builder
+@lombok.Builder(toBuilder = true)
 public class ProjectResponse {
     private Integer id;
     private String title;
@@ -23,4 +23,5 @@ public class ProjectResponse {
     private List<String> keyFeatures;
     private List<ImageUploadResponse> images;
     private List<String> technologies;
+    private long views; // 🔹 set per request by the controller, never cached
 }
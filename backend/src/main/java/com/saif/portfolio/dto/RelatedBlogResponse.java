@@ -0,0 +1,18 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedBlogResponse {
+    private Integer id;
+    private String title;
+    private String slug;
+    private String summary;
+    private String category;
+    private String imageUrl;
+    private double score; // 🔹 TF-IDF cosine similarity (0..1]
+}
@@ -0,0 +1,21 @@
+package com.saif.portfolio.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedProjectResponse {
+    private Integer id;
+    private String title;
+    private String slug;
+    private String description;
+    private String type;
+    private String imageUrl;
+    private List<String> technologies;
+    private double score; // 🔹 Jaccard similarity of technologies (0..1]
+}
@@ -0,0 +1,13 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Pre-rendered XML body, its gzip encoding and a strong ETag for the identity bytes
+@Getter
+@AllArgsConstructor
+public class RenderedDocument {
+    private final byte[] body;
+    private final byte[] gzip;
+    private final String etag;
+}
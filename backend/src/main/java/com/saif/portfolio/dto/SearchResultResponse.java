@@ -0,0 +1,19 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultResponse {
+    private String type; // 🔹 "blog" or "project"
+    private Integer id;
+    private String title;
+    private String slug;
+    private String category; // 🔹 blog category or project type
+    private String imageUrl;
+    private String snippet; // 🔹 HTML-escaped, matches wrapped in <mark>
+    private double rank;
+}
@@ -0,0 +1,14 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponse {
+    private String type; // 🔹 "skill", "project", "blog" or "category"
+    private String label;
+    private String slug; // 🔹 project / blog slug, category name; null for skills
+}
@@ -0,0 +1,16 @@
+package com.saif.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingItemResponse {
+    private String type; // 🔹 "blog" or "project"
+    private String slug;
+    private String title;
+    private double score; // 🔹 time-decayed views (each view halves in weight every half-life)
+    private long uniqueVisitors; // 🔹 approximate, since the item started being tracked
+}
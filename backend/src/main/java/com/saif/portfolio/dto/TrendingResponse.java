@@ -0,0 +1,15 @@
+package com.saif.portfolio.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingResponse {
+    private List<TrendingItemResponse> blogs;
+    private List<TrendingItemResponse> projects;
+}
@@ -0,0 +1,245 @@
+package com.saif.portfolio.filter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.util.Map;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.saif.portfolio.dto.BlogDetailResponse;
+import com.saif.portfolio.dto.ProjectResponse;
+import com.saif.portfolio.exception.ResourceNotFoundException;
+import com.saif.portfolio.service.BlogService;
+import com.saif.portfolio.service.ProjectService;
+import com.saif.portfolio.service.TrendingService;
+import com.saif.portfolio.service.ViewCountService;
+import com.saif.portfolio.util.ContentVersions;
+import com.saif.portfolio.util.RequestUtil;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Answers conditional GETs on the public content endpoints from {@link ContentVersions}.
+ * Validators cover a whole collection, so a 304 is decided before any controller,
+ * service or database work and an unchanged collection costs no payload at all.
+ * Blog and project detail pages are covered too: a 304 there still counts the view and
+ * the trending hit, once the slug resolves, since the controller that would have is skipped.
+ * The view count in the client's copy then lags, like any other cached field.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10) // before ProjectResponseCacheFilter
+@RequiredArgsConstructor
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    // Appended to the ETag when a gzip-encoded body is served
+    public static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private static final Map<String, String> COLLECTIONS = Map.of(
+            "/api/projects", ContentVersions.PROJECTS,
+            "/api/blogs", ContentVersions.BLOGS,
+            "/api/skills", ContentVersions.SKILLS,
+            "/api/certificates", ContentVersions.CERTIFICATES
+    );
+
+    // Detail endpoints whose handlers record views; sub-resources below them record none
+    private static final String PROJECT_SLUG_PREFIX = "/api/projects/slug/";
+    private static final String BLOG_SLUG_PREFIX = "/api/blogs/slug/";
+
+    private final ContentVersions contentVersions;
+    private final ProjectService projectService;
+    private final BlogService blogService;
+    private final ViewCountService viewCountService;
+    private final TrendingService trendingService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || collection(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+
+        String collection = collection(request);
+        String etag = contentVersions.etag(collection);
+        Instant lastModified = contentVersions.lastModified(collection);
+        if (etag == null || lastModified == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (notModified(request, etag, lastModified) && recordView(request)) {
+            setValidators(response, etag, lastModified);
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        ValidatedResponse validated = new ValidatedResponse(response, etag, lastModified);
+        chain.doFilter(request, validated);
+        validated.decide();
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    private String collection(HttpServletRequest request) {
+        String path = path(request);
+        for (Map.Entry<String, String> entry : COLLECTIONS.entrySet()) {
+            String prefix = entry.getKey();
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static void setValidators(HttpServletResponse response, String etag, Instant lastModified) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified.toEpochMilli());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    // Same as the detail handlers, from the same cached entries. False when the slug does
+    // not resolve: the request then goes on to the controller and its 404
+    private boolean recordView(HttpServletRequest request) {
+        String path = path(request);
+        try {
+            String slug = detailSlug(path, PROJECT_SLUG_PREFIX);
+            if (slug != null) {
+                ProjectResponse project = projectService.getProjectBySlug(slug);
+                viewCountService.recordView(ViewCountService.PROJECT, project.getSlug());
+                trendingService.record(ViewCountService.PROJECT, project.getSlug(), project.getTitle(),
+                        RequestUtil.visitorHash(request));
+                return true;
+            }
+            slug = detailSlug(path, BLOG_SLUG_PREFIX);
+            if (slug != null) {
+                BlogDetailResponse blog = blogService.getBlogBySlug(slug);
+                viewCountService.recordView(ViewCountService.BLOG, blog.getSlug());
+                trendingService.record(ViewCountService.BLOG, blog.getSlug(), blog.getTitle(),
+                        RequestUtil.visitorHash(request));
+            }
+            return true;
+        } catch (ResourceNotFoundException ex) {
+            return false;
+        }
+    }
+
+    // The slug of an exact detail path; null for listings and sub-resources
+    private static String detailSlug(String path, String prefix) {
+        if (path.startsWith(prefix) && path.length() > prefix.length()
+                && path.indexOf('/', prefix.length()) < 0) {
+            return path.substring(prefix.length());
+        }
+        return null;
+    }
+
+    // If-None-Match wins over If-Modified-Since (RFC 9110 13.2.2)
+    private boolean notModified(HttpServletRequest request, String etag, Instant lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matches(ifNoneMatch, etag);
+        }
+
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        return ifModifiedSince >= 0 && lastModified.toEpochMilli() <= ifModifiedSince;
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        String gzipEtag = etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Validators go on a 200 only, so a client can never revalidate a 404 or 500 into a 304.
+    // Decided by the first status set or body written, before the response can commit
+    private static final class ValidatedResponse extends HttpServletResponseWrapper {
+
+        private final String etag;
+        private final Instant lastModified;
+        private boolean decided;
+
+        ValidatedResponse(HttpServletResponse response, String etag, Instant lastModified) {
+            super(response);
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public void setStatus(int sc) {
+            super.setStatus(sc);
+            decide();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            decided = true;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            decided = true;
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            decide();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            decide();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            decide();
+            super.flushBuffer();
+        }
+
+        void decide() {
+            if (decided) {
+                return;
+            }
+            decided = true;
+            if (getStatus() == HttpStatus.OK.value() && !isCommitted()) {
+                setValidators((HttpServletResponse) getResponse(), etag, lastModified);
+            }
+        }
+    }
+}
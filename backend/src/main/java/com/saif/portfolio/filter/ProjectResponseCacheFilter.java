@@ -0,0 +1,153 @@
+package com.saif.portfolio.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.saif.portfolio.cache.CacheKeys;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Caches the final JSON bytes of the public project listings so cache hits skip
+ * the controller and Jackson entirely. Entries live in the "projectResponses" cache,
+ * which is evicted together with the project caches on every project or skill write.
+ * The slug detail endpoint is not cached here: its body carries the per-request view
+ * count, and its entity already comes from ProjectEntityCache.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.project-responses.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ProjectResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_NAME = "projectResponses";
+
+    public static final String BASE_PATH = "/api/projects";
+
+    private final CacheManager cacheManager;
+
+    @Value("${app.cache.project-responses.gzip:true}")
+    private boolean gzipEnabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || cacheKey(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        String key = cacheKey(request);
+
+        CachedResponse cached = cache != null ? cache.get(key, CachedResponse.class) : null;
+        if (cached != null) {
+            write(request, response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        if (cache != null && wrapper.getStatus() == HttpStatus.OK.value()) {
+            byte[] body = wrapper.getContentAsByteArray();
+            cache.put(key, new CachedResponse(
+                    wrapper.getContentType(),
+                    body,
+                    gzipEnabled ? gzip(body) : null
+            ));
+        }
+        if (gzipEnabled) {
+            wrapper.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    // Every listing, any page of /simple included
+    public static CacheKeys listings() {
+        return new CacheKeys(Set.of(BASE_PATH, BASE_PATH + "/featured"), Set.of(BASE_PATH + "/simple?"));
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+
+    // Only the public listing reads are cached; anything else returns null
+    private String cacheKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        if (path.equals(BASE_PATH) || path.equals(BASE_PATH + "/featured")) {
+            return path;
+        }
+        if (path.equals(BASE_PATH + "/simple")) {
+            String page = request.getParameter("page");
+            String size = request.getParameter("size");
+            return path + "?page=" + (page != null ? page : "0") + "&size=" + (size != null ? size : "6");
+        }
+        return null;
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedResponse cached)
+            throws IOException {
+
+        // Status first: ConditionalGetFilter only adds the ETag once a 200 is set
+        response.setStatus(HttpStatus.OK.value());
+
+        byte[] body = cached.body();
+        if (cached.gzip() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request)) {
+                body = cached.gzip();
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                markGzipEtag(response);
+            }
+        }
+
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // A strong validator must differ between the identity and gzip representations
+    private void markGzipEtag(HttpServletResponse response) {
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        if (etag != null && etag.endsWith("\"")) {
+            response.setHeader(HttpHeaders.ETAG,
+                    etag.substring(0, etag.length() - 1) + ConditionalGetFilter.GZIP_ETAG_SUFFIX + "\"");
+        }
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return accept != null && accept.toLowerCase().contains("gzip");
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private record CachedResponse(String contentType, byte[] body, byte[] gzip) {
+    }
+}
@@ -1,7 +1,14 @@
 package com.saif.portfolio.model;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.hibernate.annotations.LazyGroup;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,7 +17,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -60,12 +69,35 @@ public class Blog {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    // 🔹 Lazy (bytecode enhanced): metadata and summary paths never read the Markdown body
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // 🔹 Sanitized HTML rendered from content at write time (see BlogContentRenderer)
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("html")
+    @Column(name = "content_html", columnDefinition = "TEXT")
+    private String contentHtml;
+
+    // 🔹 SHA-256 of content the HTML was rendered from
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @JsonIgnore
+    @Column(name = "render_version")
+    private Integer renderVersion;
+
     @OneToOne(mappedBy = "blog", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private BlogImage image;
 
+    // 🔹 Rebuilt together with contentHtml; served through the section endpoints only
+    @JsonIgnore
+    @OneToMany(mappedBy = "blog", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("position")
+    private List<BlogSection> sections = new ArrayList<>();
+
     @PrePersist
     public void onCreate() {
         Instant now = Instant.now();
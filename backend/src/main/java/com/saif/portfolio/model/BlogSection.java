@@ -0,0 +1,57 @@
+package com.saif.portfolio.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// One heading-delimited slice of a blog's rendered HTML, written with the post
+@Entity
+@Table(
+    name = "blog_sections",
+    indexes = {
+        @Index(name = "idx_blog_sections_blog_position", columnList = "blog_id, position")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogSection {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blog_id", nullable = false)
+    private Blog blog;
+
+    @Column(nullable = false)
+    private int position; // 🔹 0-based, in reading order
+
+    @Column(nullable = false)
+    private int level; // 🔹 heading level (1-6), 0 for the intro before the first heading
+
+    private String heading;
+
+    private String anchor;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String html;
+}
@@ -0,0 +1,33 @@
+package com.saif.portfolio.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shared generation and last write time per public collection, behind the ETag /
+ * Last-Modified validators. Rows are only ever written by ContentVersions.
+ */
+@Entity
+@Table(name = "content_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentVersion {
+
+    @Id
+    @Column(length = 50)
+    private String collection;
+
+    @Column(nullable = false)
+    private long generation;
+
+    @Column(name = "modified_at", nullable = false)
+    private Instant modifiedAt;
+}
@@ -0,0 +1,32 @@
+package com.saif.portfolio.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flushed view totals per blog / project slug.
+ * Rows are only ever written by the batched upsert in ViewCountServiceImpl.
+ */
+@Entity
+@Table(name = "content_views")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentView {
+
+    @EmbeddedId
+    private ContentViewId id;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
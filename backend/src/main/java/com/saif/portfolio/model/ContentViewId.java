@@ -0,0 +1,22 @@
+package com.saif.portfolio.model;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentViewId implements Serializable {
+
+    @Column(name = "content_type", length = 20)
+    private String contentType; // 🔹 "blog" or "project"
+
+    @Column(name = "slug")
+    private String slug;
+}
@@ -5,6 +5,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -65,22 +68,28 @@ public class Project {
     @Column(nullable = false)
     private boolean featured = false;
 
+    // Collections load with one subselect per collection for every project in the
+    // originating query, so listings cost 1 + 3 statements instead of 1 + 3N
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private Set<ProjectKeyFeature> keyFeatures = new HashSet<>();
 
+    // A Set, not a bag: removing one skill deletes one join row instead of all of them
     @ManyToMany
+    @Fetch(FetchMode.SUBSELECT)
     @JoinTable(
         name = "project_technologies",
         joinColumns = @JoinColumn(name = "project_id"),
         inverseJoinColumns = @JoinColumn(name = "skill_id")
     )
-    private List<Skill> technologies;
+    private Set<Skill> technologies = new HashSet<>();
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ProjectType type;
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private List<ProjectImage> images;
 
     @Column(name = "created_at")
@@ -0,0 +1,73 @@
+package com.saif.portfolio.model;
+
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Denormalized read model behind /api/projects/simple.
+ * One row per project, written by the project and skill mutators so the
+ * card grid is a plain primary-key scan with no joins or aggregation.
+ */
+@Entity
+@Table(name = "project_cards")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectCard {
+
+    @Id
+    @Column(name = "project_id")
+    private Integer projectId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String slug;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "github_url")
+    private String githubUrl;
+
+    @Column(name = "live_demo_url")
+    private String liveDemoUrl;
+
+    @Column(nullable = false)
+    private boolean live;
+
+    @Column(nullable = false)
+    private boolean published;
+
+    @Column(nullable = false)
+    private boolean featured;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProjectType type;
+
+    @Column(name = "image_url")
+    private String imageUrl; // 🔹 first uploaded image
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "technologies")
+    private List<String> technologies; // 🔹 skill names, sorted
+
+    @Column(name = "key_features", columnDefinition = "TEXT")
+    private String keyFeatures; // 🔹 newline-joined, sorted; feeds the search_vector column
+}
@@ -3,5 +3,15 @@ package com.saif.portfolio.model;
 public enum ProjectType {
     Freelance,
     Personal,
-    Internship
+    Internship;
+
+    // Constants are mixed-case, so valueOf(type.toUpperCase()) never matches
+    public static ProjectType fromValue(String value) {
+        for (ProjectType type : values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Invalid project type: " + value);
+    }
 }
@@ -18,7 +18,9 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Table(
@@ -54,7 +56,10 @@ public class Skill {
     @Column(name = "icon_url", nullable = false, length = 255)
     private String iconUrl;
 
+    // Excluded so skills can live in Project.technologies (a Set) without walking back into projects
     @ManyToMany(mappedBy = "technologies")
     @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Project> projects;
 }
@@ -0,0 +1,33 @@
+package com.saif.portfolio.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Serialized trending sketches (count-min grid, heavy hitters and their HyperLogLogs),
+ * so a restart resumes from the last snapshot instead of zero.
+ */
+@Entity
+@Table(name = "trending_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingSnapshot {
+
+    @Id
+    @Column(length = 50)
+    private String id;
+
+    @Column(nullable = false)
+    private byte[] data;
+
+    @Column(name = "taken_at", nullable = false)
+    private Instant takenAt;
+}
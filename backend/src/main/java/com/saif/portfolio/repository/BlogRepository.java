@@ -1,17 +1,26 @@
 package com.saif.portfolio.repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.saif.portfolio.dto.BlogDetailRow;
+import com.saif.portfolio.dto.BlogHtmlResponse;
 import com.saif.portfolio.dto.BlogListResponse;
+import com.saif.portfolio.dto.BlogResponse;
 import com.saif.portfolio.model.Blog;
 
+import jakarta.persistence.QueryHint;
+
 public interface BlogRepository extends JpaRepository<Blog, Integer> {
 
     // ✅ Get all blogs (summary + image) with pagination (LATEST FIRST)
@@ -44,11 +53,96 @@ public interface BlogRepository extends JpaRepository<Blog, Integer> {
             Pageable pageable
     );
 
-    // ✅ Blog detail by slug (image eagerly fetched, N+1 safe)
+    // ✅ Blog detail by slug: post, image and section outline in one statement,
+    //    one row per section; HTML only for the first :initial sections
+    @Query("""
+        SELECT new com.saif.portfolio.dto.BlogDetailRow(
+            b.id, b.title, b.slug, b.summary, b.category, b.readTime, b.author,
+            b.createdAt, b.updatedAt, b.contentHash, i.publicId, i.url,
+            s.position, s.level, s.heading, s.anchor,
+            CASE WHEN s.position < :initial THEN s.html ELSE NULL END
+        )
+        FROM Blog b
+        LEFT JOIN b.image i
+        LEFT JOIN b.sections s
+        WHERE LOWER(b.slug) = LOWER(:slug)
+        ORDER BY s.position
+    """)
+    List<BlogDetailRow> findDetailRows(
+            @Param("slug") String slug,
+            @Param("initial") int initial
+    );
+
+    // ✅ Editable blog by id (source + image) in one statement, no entity loaded
+    @Query("""
+        SELECT new com.saif.portfolio.dto.BlogResponse(
+            b.id, b.title, b.slug, b.summary, b.content, b.category, b.readTime, b.author,
+            b.createdAt, b.updatedAt,
+            new com.saif.portfolio.dto.ImageUploadResponse(i.publicId, i.url)
+        )
+        FROM Blog b
+        LEFT JOIN b.image i
+        WHERE b.id = :id
+    """)
+    Optional<BlogResponse> findResponseById(@Param("id") Integer id);
+
+    // ✅ Entity for update/delete with the inverse one-to-one joined (it cannot be proxied,
+    //    so a plain findById would fire a second select for it)
     @EntityGraph(attributePaths = "image")
-    @Query("SELECT b FROM Blog b WHERE LOWER(b.slug) = LOWER(:slug)")
-    Optional<Blog> findBySlug(@Param("slug") String slug);
+    @Query("SELECT b FROM Blog b WHERE b.id = :id")
+    Optional<Blog> findWithImageById(@Param("id") Integer id);
+
+    // ✅ Pre-rendered HTML only (no source, no image)
+    @Query("""
+        SELECT new com.saif.portfolio.dto.BlogHtmlResponse(b.slug, b.contentHash, b.contentHtml)
+        FROM Blog b
+        WHERE LOWER(b.slug) = LOWER(:slug)
+    """)
+    Optional<BlogHtmlResponse> findHtmlBySlug(@Param("slug") String slug);
+
+    // ✅ Posts rendered by an older renderer (or never rendered)
+    @Query("SELECT b.id FROM Blog b WHERE b.renderVersion IS NULL OR b.renderVersion <> :version ORDER BY b.id")
+    List<Integer> findIdsWithRenderVersionNot(@Param("version") int version, Pageable pageable);
+
+    // ✅ Bulk update so re-rendering does not touch updated_at (@PreUpdate is skipped)
+    @Modifying
+    @Query("""
+        UPDATE Blog b
+        SET b.contentHtml = :html, b.contentHash = :hash, b.renderVersion = :version
+        WHERE b.id = :id
+    """)
+    int updateRendered(
+            @Param("id") Integer id,
+            @Param("html") String html,
+            @Param("hash") String hash,
+            @Param("version") int version
+    );
+
+    // ✅ Typeahead seed: id, title, slug, category, createdAt (no content)
+    @Query("SELECT b.id, b.title, b.slug, b.category, b.createdAt FROM Blog b")
+    List<Object[]> findSuggestionRows();
+
+    // ✅ Related-posts seed: id, title, slug, summary, category, content, image url (cursor)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "50"))
+    @Query("""
+        SELECT b.id, b.title, b.slug, b.summary, b.category, b.content, i.url
+        FROM Blog b
+        LEFT JOIN b.image i
+    """)
+    Stream<Object[]> streamSimilarityRows();
 
     // ✅ Slug uniqueness check (use in service before create/update)
     boolean existsBySlugIgnoreCase(String slug);
+
+    // ✅ Re-render batch: lazy Markdown body fetched in the same select
+    @EntityGraph(attributePaths = "content")
+    @Query("SELECT b FROM Blog b WHERE b.id IN :ids")
+    List<Blog> findAllWithContentById(@Param("ids") List<Integer> ids);
+
+    // ✅ Server-side cursor for the NDJSON export (call inside a transaction);
+    //    the graph pulls the lazy body columns in with the row instead of one select each
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "200"))
+    @EntityGraph(attributePaths = {"image", "content", "contentHtml"})
+    @Query("SELECT b FROM Blog b ORDER BY b.id")
+    Stream<Blog> streamAllWithImage();
 }
@@ -0,0 +1,32 @@
+package com.saif.portfolio.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.saif.portfolio.dto.BlogSectionResponse;
+import com.saif.portfolio.model.BlogSection;
+
+public interface BlogSectionRepository extends JpaRepository<BlogSection, Integer> {
+
+    // ✅ Single section for lazy loading on scroll
+    @Query("""
+        SELECT new com.saif.portfolio.dto.BlogSectionResponse(
+            s.position, s.level, s.heading, s.anchor, s.html
+        )
+        FROM BlogSection s
+        WHERE LOWER(s.blog.slug) = LOWER(:slug) AND s.position = :position
+    """)
+    Optional<BlogSectionResponse> findBySlugAndPosition(
+            @Param("slug") String slug,
+            @Param("position") int position
+    );
+
+    // ✅ Used by the re-render job before writing fresh sections
+    @Modifying
+    @Query("DELETE FROM BlogSection s WHERE s.blog.id = :blogId")
+    int deleteByBlogId(@Param("blogId") Integer blogId);
+}
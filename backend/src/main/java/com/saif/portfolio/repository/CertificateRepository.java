@@ -1,13 +1,24 @@
 package com.saif.portfolio.repository;
 
+import java.util.stream.Stream;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.saif.portfolio.model.Certificate;
 
+import jakarta.persistence.QueryHint;
+
 public interface CertificateRepository extends JpaRepository<Certificate, Integer> {
 
     boolean existsByTitleIgnoreCaseAndIssuedOrganisationIgnoreCase(
             String title,
             String issuedOrganisation
     );
+
+    // ✅ Server-side cursor for the NDJSON export (call inside a transaction)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "200"))
+    @Query("SELECT c FROM Certificate c ORDER BY c.id")
+    Stream<Certificate> streamAll();
 }
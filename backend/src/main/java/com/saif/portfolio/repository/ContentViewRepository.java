@@ -0,0 +1,24 @@
+package com.saif.portfolio.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.saif.portfolio.model.ContentView;
+import com.saif.portfolio.model.ContentViewId;
+
+public interface ContentViewRepository extends JpaRepository<ContentView, ContentViewId> {
+
+    // ✅ Total views per content type (dashboard)
+    @Query("SELECT v.id.contentType, SUM(v.views) FROM ContentView v GROUP BY v.id.contentType")
+    List<Object[]> sumViewsByContentType();
+
+    // ✅ Totals any node wrote in the last :seconds, measured on the database clock
+    @Query(value = """
+        SELECT * FROM content_views
+        WHERE updated_at >= now() - :seconds * interval '1 second'
+    """, nativeQuery = true)
+    List<ContentView> findUpdatedWithin(@Param("seconds") long seconds);
+}
@@ -0,0 +1,16 @@
+package com.saif.portfolio.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.saif.portfolio.model.ProjectCard;
+
+public interface ProjectCardRepository extends JpaRepository<ProjectCard, Integer> {
+
+    // ✅ Card grid, newest first (primary key scan)
+    Page<ProjectCard> findAllByOrderByProjectIdDesc(Pageable pageable);
+
+    // ✅ Cards written before key_features existed (backfill check)
+    boolean existsByKeyFeaturesIsNull();
+}
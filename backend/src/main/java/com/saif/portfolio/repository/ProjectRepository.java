@@ -3,10 +3,9 @@ package com.saif.portfolio.repository;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.saif.portfolio.model.Project;
 import com.saif.portfolio.model.ProjectType;
@@ -20,40 +19,38 @@ public interface ProjectRepository extends JpaRepository<Project, Integer> {
     List<Project> findByType(ProjectType type);
 
     List<Project> findByFeaturedTrue();
+
+    // ✅ Projects using a skill (project card refresh on skill change)
+    List<Project> findByTechnologies_Id(Long skillId);
     
     // ✅ Featured projects count
     @Query("SELECT COUNT(p) FROM Project p WHERE p.featured = true")
     long countFeaturedProjects();
 
+    // ✅ Bulk flag update in one statement, returns changed rows (cards via ProjectCardWriter)
+    // setX = false leaves that flag unchanged
     @Query(
         value = """
-            SELECT 
-                p.id,
-                p.title,
-                p.slug,
-                p.description,
-                p.github_url,
-                p.live_demo_url,
-                p.live,
-                p.published,
-                p.featured,
-                p.type,
-                img.url,
-                COALESCE(STRING_AGG(DISTINCT s.name, ','), '')
-            FROM projects p
-            LEFT JOIN (
-                SELECT project_id, MIN(id) AS first_image_id
-                FROM project_images
-                GROUP BY project_id
-            ) fi ON fi.project_id = p.id
-            LEFT JOIN project_images img ON img.id = fi.first_image_id
-            LEFT JOIN project_technologies pt ON p.id = pt.project_id
-            LEFT JOIN skills s ON pt.skill_id = s.id
-            GROUP BY p.id, img.url
-            ORDER BY p.id DESC
+            WITH updated AS (
+                UPDATE projects
+                SET live = CASE WHEN :setLive THEN :live ELSE live END,
+                    published = CASE WHEN :setPublished THEN :published ELSE published END,
+                    featured = CASE WHEN :setFeatured THEN :featured ELSE featured END,
+                    updated_at = now()
+                WHERE id IN (:ids)
+                RETURNING id, slug, live, published, featured
+            )
+            SELECT id, slug, live, published, featured FROM updated
         """,
-        countQuery = "SELECT COUNT(*) FROM projects",
         nativeQuery = true
     )
-    Page<Object[]> findAllSimpleProjectsNative(Pageable pageable);
+    List<Object[]> updateFlags(
+            @Param("ids") List<Integer> ids,
+            @Param("setLive") boolean setLive,
+            @Param("live") boolean live,
+            @Param("setPublished") boolean setPublished,
+            @Param("published") boolean published,
+            @Param("setFeatured") boolean setFeatured,
+            @Param("featured") boolean featured
+    );
 }
@@ -1,12 +1,16 @@
 package com.saif.portfolio.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.saif.portfolio.model.Skill;
 
+import jakarta.persistence.QueryHint;
+
 public interface SkillRepository extends JpaRepository<Skill, Long> {
 
     List<Skill> findByCategoryIgnoreCaseOrderByPriorityAsc(String category);
@@ -16,4 +20,9 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     // ✅ Category-wise count
     @Query("SELECT s.category, COUNT(s) FROM Skill s GROUP BY s.category")
     List<Object[]> countSkillsByCategory();
+
+    // ✅ Server-side cursor for the NDJSON export (call inside a transaction)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "200"))
+    @Query("SELECT s FROM Skill s ORDER BY s.id")
+    Stream<Skill> streamAll();
 }
@@ -0,0 +1,20 @@
+package com.saif.portfolio.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.saif.portfolio.model.TrendingSnapshot;
+
+import jakarta.persistence.LockModeType;
+
+public interface TrendingSnapshotRepository extends JpaRepository<TrendingSnapshot, String> {
+
+    // ✅ Row lock so nodes merging into the shared snapshot take turns
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TrendingSnapshot s WHERE s.id = :id")
+    Optional<TrendingSnapshot> findLockedById(@Param("id") String id);
+}
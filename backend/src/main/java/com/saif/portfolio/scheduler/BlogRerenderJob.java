@@ -0,0 +1,83 @@
+package com.saif.portfolio.scheduler;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saif.portfolio.model.Blog;
+import com.saif.portfolio.repository.BlogRepository;
+import com.saif.portfolio.repository.BlogSectionRepository;
+import com.saif.portfolio.service.impl.BlogEntityCache;
+import com.saif.portfolio.util.BlogContentRenderer;
+import com.saif.portfolio.util.ContentVersions;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Re-renders blog HTML left behind by an older {@link BlogContentRenderer#VERSION}.
+ * Only stale rows are read, in small batches, so a normal startup costs one query.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlogRerenderJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogRerenderJob.class);
+
+    private static final int BATCH_SIZE = 20;
+
+    private final BlogRepository blogRepository;
+    private final BlogSectionRepository blogSectionRepository;
+    private final BlogContentRenderer blogContentRenderer;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final ContentVersions contentVersions;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rerenderStale() {
+        int rendered = 0;
+
+        List<Integer> ids;
+        while (!(ids = blogRepository.findIdsWithRenderVersionNot(
+                BlogContentRenderer.VERSION, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+
+            List<Integer> batch = ids;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Blog blog : blogRepository.findAllWithContentById(batch)) {
+                    String html = blogContentRenderer.render(blog.getContent());
+                    blogRepository.updateRendered(
+                            blog.getId(),
+                            html,
+                            blogContentRenderer.hash(blog.getContent()),
+                            BlogContentRenderer.VERSION);
+                    blogSectionRepository.deleteByBlogId(blog.getId());
+                    blogSectionRepository.saveAll(blogContentRenderer.sections(blog, html));
+                }
+            });
+            rendered += batch.size();
+        }
+
+        if (rendered > 0) {
+            evict(BlogEntityCache.BY_ID);
+            evict(BlogEntityCache.ID_BY_SLUG);
+            evict("blogHtml");
+            evict("blogSections");
+            contentVersions.bumpAfterCommit(ContentVersions.BLOGS);
+            log.info("Re-rendered {} blog posts with renderer v{}", rendered, BlogContentRenderer.VERSION);
+        }
+    }
+
+    private void evict(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
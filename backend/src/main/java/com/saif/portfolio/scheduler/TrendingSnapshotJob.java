@@ -0,0 +1,21 @@
+package com.saif.portfolio.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.service.TrendingService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingSnapshotJob {
+
+    private final TrendingService trendingService;
+
+    @Scheduled(fixedDelayString = "${app.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${app.trending.snapshot-interval-ms:300000}")
+    public void snapshotTrending() {
+        trendingService.snapshot(); // sketches -> trending_snapshots, survives restarts
+    }
+}
@@ -0,0 +1,20 @@
+package com.saif.portfolio.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.service.ViewCountService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushJob {
+
+    private final ViewCountService viewCountService;
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:30000}")
+    public void flushViews() {
+        viewCountService.flush(); // pending views -> content_views, one batched upsert
+    }
+}
@@ -1,17 +1,26 @@
 package com.saif.portfolio.service;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 
+import com.saif.portfolio.dto.BlogDetailResponse;
+import com.saif.portfolio.dto.BlogHtmlResponse;
 import com.saif.portfolio.dto.BlogListResponse;
 import com.saif.portfolio.dto.BlogRequest;
-import com.saif.portfolio.model.Blog;
+import com.saif.portfolio.dto.BlogResponse;
+import com.saif.portfolio.dto.BlogSectionResponse;
+import com.saif.portfolio.dto.RelatedBlogResponse;
 
 public interface BlogService {
     Page<BlogListResponse> getAllBlogs(int page,int size);
-    Blog getBlogById(Integer id);
-    Blog getBlogBySlug(String slug);
+    BlogResponse getBlogById(Integer id);
+    BlogDetailResponse getBlogBySlug(String slug);
+    BlogSectionResponse getBlogSection(String slug, int position);
+    BlogHtmlResponse getBlogHtml(String slug);
+    List<RelatedBlogResponse> getRelatedBlogs(String slug);
     Page<BlogListResponse> getBlogsByCategory(String category,int page,int size);
-    Blog createBlog(BlogRequest blogRequest);
-    Blog updateBlog(Integer id, BlogRequest blogRequest);
-    Blog deleteBlog(Integer id);
+    BlogResponse createBlog(BlogRequest blogRequest);
+    BlogResponse updateBlog(Integer id, BlogRequest blogRequest);
+    BlogResponse deleteBlog(Integer id);
 }
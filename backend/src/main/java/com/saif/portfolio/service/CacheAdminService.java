@@ -0,0 +1,15 @@
+package com.saif.portfolio.service;
+
+import java.util.List;
+
+import com.saif.portfolio.dto.CacheOverviewResponse;
+import com.saif.portfolio.dto.CacheStatsResponse;
+
+public interface CacheAdminService {
+    CacheOverviewResponse getCaches();
+    CacheStatsResponse getCache(String name);
+    List<String> getKeys(String name, int limit);
+    boolean evictKey(String name, String key);
+    void clearCache(String name);
+    List<CacheStatsResponse> warmCaches(List<String> names);
+}
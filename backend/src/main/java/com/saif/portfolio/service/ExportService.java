@@ -0,0 +1,9 @@
+package com.saif.portfolio.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+
+    void exportAll(OutputStream out) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.saif.portfolio.service;
+
+import com.saif.portfolio.dto.BlogListResponse;
+import com.saif.portfolio.dto.RenderedDocument;
+
+public interface FeedService {
+
+    RenderedDocument getFeed();
+
+    RenderedDocument getSitemap();
+
+    // Re-reads every blog; also used when updates from other nodes may have been missed
+    void load();
+
+    // Blog writers call these after commit; projects arrive through ProjectCardIndex
+    void putBlog(BlogListResponse blog);
+
+    void removeBlog(Integer id);
+}
@@ -1,11 +1,18 @@
 package com.saif.portfolio.service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 
+import com.saif.portfolio.dto.ProjectFilter;
+import com.saif.portfolio.dto.ProjectFlagsRequest;
+import com.saif.portfolio.dto.ProjectFlagsResponse;
+import com.saif.portfolio.dto.ProjectImportResponse;
 import com.saif.portfolio.dto.ProjectRequest;
 import com.saif.portfolio.dto.ProjectResponse;
+import com.saif.portfolio.dto.RelatedProjectResponse;
 import com.saif.portfolio.dto.SimpleProjectResponse;
 
 public interface ProjectService {
@@ -14,12 +21,16 @@ public interface ProjectService {
 
     Page<SimpleProjectResponse> getAllSimpleProjectResponses(int page, int size);
 
+    Page<SimpleProjectResponse> filterProjects(ProjectFilter filter, int page, int size);
+
     List<ProjectResponse> getFeaturedProjects();
 
     ProjectResponse getProjectById(int id);
 
     ProjectResponse getProjectBySlug(String slug);
 
+    List<RelatedProjectResponse> getRelatedProjects(String slug);
+
     List<ProjectResponse> getProjectsByType(String type);
 
     ProjectResponse createProject(ProjectRequest request);
@@ -33,4 +44,8 @@ public interface ProjectService {
     ProjectResponse togglePublished(Integer id);
 
     ProjectResponse toggleFeatured(Integer id);
+
+    List<ProjectFlagsResponse> updateFlags(ProjectFlagsRequest request);
+
+    ProjectImportResponse importProjects(InputStream in) throws IOException;
 }
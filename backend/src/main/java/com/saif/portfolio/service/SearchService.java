@@ -0,0 +1,10 @@
+package com.saif.portfolio.service;
+
+import org.springframework.data.domain.Page;
+
+import com.saif.portfolio.dto.SearchResultResponse;
+
+public interface SearchService {
+
+    Page<SearchResultResponse> search(String query, int page, int size);
+}
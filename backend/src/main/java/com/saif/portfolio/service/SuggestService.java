@@ -0,0 +1,10 @@
+package com.saif.portfolio.service;
+
+import java.util.List;
+
+import com.saif.portfolio.dto.SuggestionResponse;
+
+public interface SuggestService {
+
+    List<SuggestionResponse> suggest(String prefix, int limit);
+}
@@ -0,0 +1,13 @@
+package com.saif.portfolio.service;
+
+import com.saif.portfolio.dto.TrendingResponse;
+
+public interface TrendingService {
+
+    // title may be null when the caller does not have it; the last known one is kept
+    void record(String contentType, String slug, String title, long visitorHash);
+
+    TrendingResponse getTrending(boolean byVisitors, int limit);
+
+    void snapshot();
+}
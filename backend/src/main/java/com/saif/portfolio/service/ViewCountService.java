@@ -0,0 +1,12 @@
+package com.saif.portfolio.service;
+
+public interface ViewCountService {
+
+    String BLOG = "blog";
+    String PROJECT = "project";
+
+    // Counts one view and returns the total including it
+    long recordView(String contentType, String slug);
+
+    void flush();
+}
@@ -0,0 +1,48 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.cache.CacheKeys;
+import com.saif.portfolio.util.CacheUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Targeted eviction for blog caches: listings are cleared, per-post entries only for the
+ * written post. Call it inside the writing transaction: other nodes are notified on commit
+ * and this node drops its entries once the transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlogCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final BlogEntityCache blogEntityCache;
+
+    // Pass the old slug too when a post is renamed
+    public void evictPost(Integer id, Collection<String> slugs) {
+        Set<String> normalized = slugs.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toSet());
+
+        CacheUtil.clear(cacheManager, "blogList", "blogListByCategory");
+        blogEntityCache.evict(Set.of(id), normalized);
+
+        Cache html = cacheManager.getCache("blogHtml");
+        if (html != null) {
+            normalized.forEach(html::evict);
+        }
+
+        // Section keys are "<slug>-<position>"; the prefix also catches sections of longer
+        // slugs starting the same way, which only costs them a re-render
+        CacheUtil.evictIf(cacheManager, "blogSections", CacheKeys.prefixed(normalized.stream()
+                .map(slug -> slug + "-")
+                .toList()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.saif.portfolio.service.impl;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.cache.EntityCache;
+import com.saif.portfolio.dto.BlogDetailResponse;
+
+/**
+ * Public blog detail (TOC plus first sections), addressable by post id and by slug.
+ */
+@Component
+public class BlogEntityCache extends EntityCache<BlogDetailResponse> {
+
+    public static final String BY_ID = "blogById";
+    public static final String ID_BY_SLUG = "blogIdBySlug";
+
+    public BlogEntityCache(CacheManager cacheManager) {
+        super(cacheManager, BY_ID, ID_BY_SLUG, BlogDetailResponse.class,
+                BlogDetailResponse::getId, BlogDetailResponse::getSlug);
+    }
+}
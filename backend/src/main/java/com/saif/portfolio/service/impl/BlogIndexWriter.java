@@ -0,0 +1,108 @@
+package com.saif.portfolio.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saif.portfolio.cache.CacheInvalidationBus;
+import com.saif.portfolio.dto.BlogListResponse;
+import com.saif.portfolio.model.Blog;
+import com.saif.portfolio.repository.BlogRepository;
+import com.saif.portfolio.service.FeedService;
+import com.saif.portfolio.util.TransactionUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Feeds blog writes into the in-memory blog indexes (suggestions, related posts, feed and
+ * sitemap). Callers invoke it inside their own transaction: the indexes on this node are
+ * updated once it commits, and the post id is broadcast so other nodes reload the post
+ * into theirs.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlogIndexWriter implements CacheInvalidationBus.Subscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogIndexWriter.class);
+
+    private static final String TOPIC = "blogs";
+
+    private final BlogRepository blogRepository;
+    private final SuggestionIndex suggestionIndex;
+    private final BlogSimilarityIndex blogSimilarityIndex;
+    private final FeedService feedService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(TOPIC, this);
+    }
+
+    // -------------------------------------------------
+    // WRITE (inside the caller's transaction)
+    // -------------------------------------------------
+
+    // Read inside the callback: timestamps are only final once the flush has run @PreUpdate
+    public void put(Blog blog) {
+        cacheInvalidationBus.publish(TOPIC, String.valueOf(blog.getId()));
+        TransactionUtil.afterCommit(() -> index(blog));
+    }
+
+    public void remove(Integer id) {
+        cacheInvalidationBus.publish(TOPIC, String.valueOf(id));
+        TransactionUtil.afterCommit(() -> unindex(id));
+    }
+
+    // -------------------------------------------------
+    // PEERS
+    // -------------------------------------------------
+
+    // A post another node wrote; gone from the table means deleted. The transaction keeps
+    // the session open for the lazy content column
+    @Override
+    public void onMessage(String message) {
+        Integer id = Integer.valueOf(message);
+        transactionTemplate.executeWithoutResult(status -> blogRepository.findWithImageById(id)
+                .ifPresentOrElse(this::index, () -> unindex(id)));
+    }
+
+    @Override
+    public void onResync() {
+        suggestionIndex.load();
+        blogSimilarityIndex.load();
+        feedService.load();
+        log.info("Blog indexes resynced");
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+
+    // Content was set in the writing request, so reading it there never hits the lazy loader
+    private void index(Blog blog) {
+        suggestionIndex.putBlog(blog.getId(), blog.getTitle(), blog.getSlug(),
+                blog.getCategory(), blog.getCreatedAt());
+        blogSimilarityIndex.put(blog.getId(), blog.getTitle(), blog.getSlug(), blog.getSummary(),
+                blog.getCategory(), blog.getImage() != null ? blog.getImage().getUrl() : null,
+                blog.getContent());
+        feedService.putBlog(BlogListResponse.builder()
+                .id(blog.getId())
+                .title(blog.getTitle())
+                .slug(blog.getSlug())
+                .summary(blog.getSummary())
+                .category(blog.getCategory())
+                .author(blog.getAuthor())
+                .createdAt(blog.getCreatedAt())
+                .updatedAt(blog.getUpdatedAt())
+                .build());
+    }
+
+    private void unindex(Integer id) {
+        suggestionIndex.removeBlog(id);
+        blogSimilarityIndex.remove(id);
+        feedService.removeBlog(id);
+    }
+}
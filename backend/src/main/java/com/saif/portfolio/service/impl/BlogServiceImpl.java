@@ -1,21 +1,32 @@
 package com.saif.portfolio.service.impl;
 
-import org.springframework.cache.annotation.CacheEvict;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.saif.portfolio.dto.BlogDetailResponse;
+import com.saif.portfolio.dto.BlogDetailRow;
+import com.saif.portfolio.dto.BlogHtmlResponse;
 import com.saif.portfolio.dto.BlogListResponse;
 import com.saif.portfolio.dto.BlogRequest;
+import com.saif.portfolio.dto.BlogResponse;
+import com.saif.portfolio.dto.BlogSectionResponse;
+import com.saif.portfolio.dto.BlogTocEntry;
+import com.saif.portfolio.dto.ImageUploadResponse;
+import com.saif.portfolio.dto.RelatedBlogResponse;
 import com.saif.portfolio.exception.ResourceNotFoundException;
 import com.saif.portfolio.model.Blog;
 import com.saif.portfolio.model.BlogImage;
 import com.saif.portfolio.repository.BlogRepository;
+import com.saif.portfolio.repository.BlogSectionRepository;
 import com.saif.portfolio.service.BlogService;
+import com.saif.portfolio.util.BlogContentRenderer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +35,16 @@ import lombok.RequiredArgsConstructor;
 public class BlogServiceImpl implements BlogService {
 
     private final BlogRepository blogRepository;
+    private final BlogSectionRepository blogSectionRepository;
+    private final BlogContentRenderer blogContentRenderer;
+    private final BlogEntityCache blogEntityCache;
+    private final ReadOnlyLoader readOnlyLoader;
+    private final BlogCacheEvictor blogCacheEvictor;
+    private final BlogSimilarityIndex blogSimilarityIndex;
+    private final BlogIndexWriter blogIndexWriter;
+
+    @Value("${app.blog.initial-sections:2}")
+    private int initialSections;
 
     // ----------------------------------------------------------------
     // READ OPERATIONS (CACHED)
@@ -37,24 +58,51 @@ public class BlogServiceImpl implements BlogService {
         return blogRepository.findAllSummaries(pageable);
     }
 
+    // Editor read with the Markdown source; not the public entry held in BlogEntityCache
     @Override
     @Transactional(readOnly = true)
-    public Blog getBlogById(Integer id) {
-        return blogRepository.findById(id)
+    public BlogResponse getBlogById(Integer id) {
+        return blogRepository.findResponseById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Blog not found with id: " + id));
     }
 
+    // TOC + first sections only; long posts stream the rest through getBlogSection.
+    // Cached per post in BlogEntityCache, so a write evicts only that post; only a miss opens a transaction
+    @Override
+    public BlogDetailResponse getBlogBySlug(String slug) {
+        return blogEntityCache.getBySlug(slug,
+                () -> readOnlyLoader.load(() -> loadBlogDetail(slug.toLowerCase())));
+    }
+
+    @Override
+    @Cacheable(value = "blogSections", key = "#slug.toLowerCase() + '-' + #position")
+    @Transactional(readOnly = true)
+    public BlogSectionResponse getBlogSection(String slug, int position) {
+        String normalizedSlug = slug.toLowerCase();
+        return blogSectionRepository.findBySlugAndPosition(normalizedSlug, position)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Section " + position + " not found for blog: " + normalizedSlug));
+    }
+
+    // Pre-rendered at write time; this read never touches the Markdown source
     @Override
-    @Cacheable(value = "blogs", key = "#slug.toLowerCase()")
+    @Cacheable(value = "blogHtml", key = "#slug.toLowerCase()")
     @Transactional(readOnly = true)
-    public Blog getBlogBySlug(String slug) {
+    public BlogHtmlResponse getBlogHtml(String slug) {
         String normalizedSlug = slug.toLowerCase();
-        return blogRepository.findBySlug(normalizedSlug)
+        return blogRepository.findHtmlBySlug(normalizedSlug)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Blog not found with slug: " + normalizedSlug));
     }
 
+    // Served from the in-memory similarity index, no database round trip
+    @Override
+    public List<RelatedBlogResponse> getRelatedBlogs(String slug) {
+        return blogSimilarityIndex.related(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Blog not found with slug: " + slug));
+    }
+
     @Override
     @Cacheable(
         value = "blogListByCategory",
@@ -72,12 +120,7 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "blogs", allEntries = true),
-        @CacheEvict(value = "blogList", allEntries = true),
-        @CacheEvict(value = "blogListByCategory", allEntries = true)
-    })
-    public Blog createBlog(BlogRequest request) {
+    public BlogResponse createBlog(BlogRequest request) {
 
         String slug = request.getSlug().toLowerCase();
 
@@ -94,6 +137,7 @@ public class BlogServiceImpl implements BlogService {
         blog.setCategory(request.getCategory().toLowerCase());
         blog.setReadTime(request.getReadTime());
         blog.setAuthor(request.getAuthor());
+        blogContentRenderer.apply(blog);
 
         BlogImage image = new BlogImage();
         image.setPublicId(request.getImage().getPublicId());
@@ -102,7 +146,10 @@ public class BlogServiceImpl implements BlogService {
 
         blog.setImage(image);
 
-        return blogRepository.save(blog);
+        Blog saved = blogRepository.save(blog);
+        blogCacheEvictor.evictPost(saved.getId(), List.of(slug));
+        blogIndexWriter.put(saved);
+        return toResponse(saved, true);
     }
 
     // ----------------------------------------------------------------
@@ -111,17 +158,13 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "blogs", allEntries = true),
-        @CacheEvict(value = "blogList", allEntries = true),
-        @CacheEvict(value = "blogListByCategory", allEntries = true)
-    })
-    public Blog updateBlog(Integer id, BlogRequest request) {
-
-        Blog blog = blogRepository.findById(id)
+    public BlogResponse updateBlog(Integer id, BlogRequest request) {
+
+        Blog blog = blogRepository.findWithImageById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Blog not found with id: " + id));
 
+        String oldSlug = blog.getSlug();
         String newSlug = request.getSlug().toLowerCase();
 
         // ✅ Slug change hone par duplicate check
@@ -137,6 +180,7 @@ public class BlogServiceImpl implements BlogService {
         blog.setAuthor(request.getAuthor());
         blog.setSummary(request.getSummary());
         blog.setContent(request.getContent());
+        blogContentRenderer.apply(blog); // no-op when the content is unchanged
 
         BlogImage image = blog.getImage();
         if (image == null) {
@@ -148,7 +192,11 @@ public class BlogServiceImpl implements BlogService {
         image.setUrl(request.getImage().getUrl());
         blog.setImage(image);
 
-        return blogRepository.save(blog);
+        // Flushed here so @PreUpdate has stamped updatedAt before the response is built
+        Blog saved = blogRepository.saveAndFlush(blog);
+        blogCacheEvictor.evictPost(id, List.of(oldSlug, newSlug));
+        blogIndexWriter.put(saved);
+        return toResponse(saved, true);
     }
 
     // ----------------------------------------------------------------
@@ -157,18 +205,74 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "blogs", allEntries = true, beforeInvocation = true),
-        @CacheEvict(value = "blogList", allEntries = true, beforeInvocation = true),
-        @CacheEvict(value = "blogListByCategory", allEntries = true, beforeInvocation = true)
-    })
-    public Blog deleteBlog(Integer id) {
-
-        Blog blog = blogRepository.findById(id)
+    public BlogResponse deleteBlog(Integer id) {
+
+        Blog blog = blogRepository.findWithImageById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Blog not found with id: " + id));
 
+        // Body left out so the delete never loads the lazy content column
+        BlogResponse deleted = toResponse(blog, false);
         blogRepository.delete(blog);
-        return blog;
+        blogCacheEvictor.evictPost(id, List.of(blog.getSlug()));
+        blogIndexWriter.remove(id);
+        return deleted;
+    }
+
+    // ----------------------------------------------------------------
+    // INTERNAL HELPERS
+    // ----------------------------------------------------------------
+
+    private static BlogResponse toResponse(Blog blog, boolean withContent) {
+        BlogImage image = blog.getImage();
+        return BlogResponse.builder()
+                .id(blog.getId())
+                .title(blog.getTitle())
+                .slug(blog.getSlug())
+                .summary(blog.getSummary())
+                .content(withContent ? blog.getContent() : null)
+                .category(blog.getCategory())
+                .readTime(blog.getReadTime())
+                .author(blog.getAuthor())
+                .createdAt(blog.getCreatedAt())
+                .updatedAt(blog.getUpdatedAt())
+                .image(image == null ? null : new ImageUploadResponse(image.getPublicId(), image.getUrl()))
+                .build();
+    }
+
+    // One statement: the post columns repeat on every section row
+    private BlogDetailResponse loadBlogDetail(String normalizedSlug) {
+        List<BlogDetailRow> rows = blogRepository.findDetailRows(normalizedSlug, initialSections);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Blog not found with slug: " + normalizedSlug);
+        }
+
+        BlogDetailRow blog = rows.get(0);
+        List<BlogDetailRow> outline = rows.stream().filter(r -> r.getPosition() != null).toList();
+
+        return BlogDetailResponse.builder()
+                .id(blog.getId())
+                .title(blog.getTitle())
+                .slug(blog.getSlug())
+                .summary(blog.getSummary())
+                .category(blog.getCategory())
+                .readTime(blog.getReadTime())
+                .author(blog.getAuthor())
+                .createdAt(blog.getCreatedAt())
+                .updatedAt(blog.getUpdatedAt())
+                .image(blog.getImagePublicId() == null ? null
+                        : new ImageUploadResponse(blog.getImagePublicId(), blog.getImageUrl()))
+                .contentHash(blog.getContentHash())
+                .totalSections(outline.size())
+                .toc(outline.stream()
+                        .filter(r -> r.getHeading() != null)
+                        .map(r -> new BlogTocEntry(r.getPosition(), r.getLevel(), r.getHeading(), r.getAnchor()))
+                        .toList())
+                .sections(outline.stream()
+                        .filter(r -> r.getHtml() != null)
+                        .map(r -> new BlogSectionResponse(r.getPosition(), r.getLevel(),
+                                r.getHeading(), r.getAnchor(), r.getHtml()))
+                        .toList())
+                .build();
     }
 }
@@ -0,0 +1,307 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.saif.portfolio.dto.RelatedBlogResponse;
+import com.saif.portfolio.repository.BlogRepository;
+
+/**
+ * In-memory "related posts" index. Each post's title, summary and Markdown body are
+ * turned into a sparse, L2-normalised TF-IDF vector at write time and its top-K cosine
+ * neighbours are precomputed, so a lookup is a single map read with no maths.
+ * Candidates are scored through term postings, so only posts sharing a term are touched.
+ * A write re-weights only the changed post; the others keep the IDF from when they were
+ * last indexed until the next startup rebuild, which is close enough for recommendations.
+ */
+@Component
+public class BlogSimilarityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogSimilarityIndex.class);
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    // Strongest terms kept per post; bounds memory and the cost of scoring
+    private static final int MAX_TERMS = 100;
+
+    // Title words say more about the topic than body words
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SUMMARY_WEIGHT = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "are", "but", "not", "you", "your", "all", "any", "can", "had",
+            "her", "was", "one", "our", "out", "has", "have", "him", "his", "how", "its", "may",
+            "new", "now", "see", "two", "who", "did", "get", "got", "let", "use", "via", "with",
+            "this", "that", "from", "they", "them", "then", "than", "there", "their", "what",
+            "when", "where", "which", "while", "will", "would", "could", "should", "into",
+            "about", "also", "just", "more", "most", "some", "such", "only", "over", "very",
+            "been", "being", "were", "each", "other", "these", "those", "here", "like", "make",
+            "using", "used", "https", "http", "www"
+    );
+
+    private static final Comparator<Neighbour> BY_SCORE =
+            Comparator.comparingDouble(Neighbour::score).reversed()
+                    .thenComparing(Comparator.comparingInt(Neighbour::blogId).reversed());
+
+    private final BlogRepository blogRepository;
+    private final int topK;
+
+    private final Map<Integer, Doc> docs = new ConcurrentHashMap<>();
+    private final Map<String, Integer> slugs = new ConcurrentHashMap<>();
+
+    // Written under this; term -> number of posts containing it
+    private final Map<String, Integer> documentFrequency = new HashMap<>();
+    // Written under this; term -> (post id -> weight) over the kept terms only
+    private final Map<String, Map<Integer, Double>> postings = new HashMap<>();
+
+    public BlogSimilarityIndex(BlogRepository blogRepository,
+                               @Value("${app.related.top-k:6}") int topK) {
+        this.blogRepository = blogRepository;
+        this.topK = topK;
+    }
+
+    // -------------------------------------------------
+    // READ
+    // -------------------------------------------------
+    public Optional<List<RelatedBlogResponse>> related(String slug) {
+        Integer id = slugs.get(slug.toLowerCase());
+        Doc doc = id != null ? docs.get(id) : null;
+        if (doc == null) {
+            return Optional.empty();
+        }
+
+        List<RelatedBlogResponse> result = new ArrayList<>(doc.related().size());
+        for (Neighbour n : doc.related()) {
+            Doc other = docs.get(n.blogId());
+            if (other != null) {
+                result.add(new RelatedBlogResponse(other.id(), other.title(), other.slug(),
+                        other.summary(), other.category(), other.imageUrl(), n.score()));
+            }
+        }
+        return Optional.of(result);
+    }
+
+    // -------------------------------------------------
+    // WRITE
+    // -------------------------------------------------
+    // Bodies are streamed and only their term counts kept, never the text itself
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<Pending> pending = new ArrayList<>();
+        try (Stream<Object[]> rows = blogRepository.streamSimilarityRows()) {
+            rows.forEach(row -> pending.add(new Pending(
+                    (Integer) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (String) row[6],
+                    termCounts((String) row[1], (String) row[3], (String) row[5]))));
+        }
+        rebuild(pending);
+    }
+
+    public synchronized void put(Integer id, String title, String slug, String summary,
+                                 String category, String imageUrl, String content) {
+        // The previous entry stays readable until index() replaces it
+        Doc previous = docs.get(id);
+        if (previous != null) {
+            unindexTerms(previous);
+            if (!previous.slug().equalsIgnoreCase(slug)) {
+                slugs.remove(previous.slug().toLowerCase(), id);
+            }
+        }
+
+        Map<String, Integer> counts = termCounts(title, summary, content);
+        counts.keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+        Doc doc = index(new Pending(id, title, slug, summary, category, imageUrl, counts),
+                previous != null ? docs.size() : docs.size() + 1,
+                previous != null ? previous.related() : List.of());
+
+        Map<Integer, Double> scores = scores(doc);
+        setRelated(doc, scores);
+
+        // Only lists that held the post or that it could now enter need a full pass
+        for (Doc other : docs.values()) {
+            if (other.id().equals(id)) {
+                continue;
+            }
+            List<Neighbour> related = other.related();
+            double score = scores.getOrDefault(other.id(), 0d);
+            boolean entersList = score > 0
+                    && (related.size() < topK || score >= related.get(related.size() - 1).score());
+            if (entersList || contains(related, id)) {
+                setRelated(other, scores(other));
+            }
+        }
+    }
+
+    public synchronized void remove(Integer id) {
+        Doc removed = docs.get(id);
+        if (removed == null) {
+            return;
+        }
+        docs.remove(id);
+        slugs.remove(removed.slug().toLowerCase(), id);
+        unindexTerms(removed);
+        for (Doc other : docs.values()) {
+            if (contains(other.related(), id)) {
+                setRelated(other, scores(other));
+            }
+        }
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    private synchronized void rebuild(List<Pending> pending) {
+        docs.clear();
+        slugs.clear();
+        documentFrequency.clear();
+        postings.clear();
+
+        for (Pending p : pending) {
+            p.counts().keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+        }
+        for (Pending p : pending) {
+            index(p, pending.size(), List.of());
+        }
+        for (Doc doc : docs.values()) {
+            setRelated(doc, scores(doc));
+        }
+        log.info("Blog similarity index built for {} posts", docs.size());
+    }
+
+    private Doc index(Pending p, int totalDocs, List<Neighbour> related) {
+        Map<String, Double> vector = vector(p.counts(), totalDocs);
+        vector.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(p.id(), weight));
+
+        Doc doc = new Doc(p.id(), p.title(), p.slug(), p.summary(), p.category(), p.imageUrl(),
+                Set.copyOf(p.counts().keySet()), vector, related);
+        docs.put(p.id(), doc);
+        slugs.put(p.slug().toLowerCase(), p.id());
+        return doc;
+    }
+
+    private void unindexTerms(Doc doc) {
+        for (String term : doc.terms()) {
+            documentFrequency.computeIfPresent(term, (t, n) -> n > 1 ? n - 1 : null);
+        }
+        for (String term : doc.vector().keySet()) {
+            Map<Integer, Double> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(doc.id());
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // Sublinear TF times smoothed IDF, strongest MAX_TERMS kept, then L2-normalised
+    private Map<String, Double> vector(Map<String, Integer> counts, int totalDocs) {
+        List<Map.Entry<String, Double>> weights = new ArrayList<>(counts.size());
+        for (Map.Entry<String, Integer> e : counts.entrySet()) {
+            double tf = 1 + Math.log(e.getValue());
+            double idf = 1 + Math.log((double) (totalDocs + 1) / (documentFrequency.getOrDefault(e.getKey(), 0) + 1));
+            weights.add(Map.entry(e.getKey(), tf * idf));
+        }
+        weights.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+
+        List<Map.Entry<String, Double>> kept = weights.subList(0, Math.min(MAX_TERMS, weights.size()));
+        double norm = Math.sqrt(kept.stream().mapToDouble(e -> e.getValue() * e.getValue()).sum());
+        Map<String, Double> vector = new HashMap<>(kept.size() * 2);
+        for (Map.Entry<String, Double> e : kept) {
+            vector.put(e.getKey(), e.getValue() / norm);
+        }
+        return vector;
+    }
+
+    // Cosine against every post sharing at least one kept term (vectors are unit length)
+    private Map<Integer, Double> scores(Doc doc) {
+        Map<Integer, Double> scores = new HashMap<>();
+        doc.vector().forEach((term, weight) -> {
+            Map<Integer, Double> posting = postings.get(term);
+            if (posting != null) {
+                posting.forEach((otherId, otherWeight) -> {
+                    if (!otherId.equals(doc.id())) {
+                        scores.merge(otherId, weight * otherWeight, Double::sum);
+                    }
+                });
+            }
+        });
+        return scores;
+    }
+
+    private void setRelated(Doc doc, Map<Integer, Double> scores) {
+        List<Neighbour> candidates = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> candidates.add(new Neighbour(id, score)));
+        candidates.sort(BY_SCORE);
+        List<Neighbour> related = List.copyOf(candidates.subList(0, Math.min(topK, candidates.size())));
+        docs.put(doc.id(), new Doc(doc.id(), doc.title(), doc.slug(), doc.summary(), doc.category(),
+                doc.imageUrl(), doc.terms(), doc.vector(), related));
+    }
+
+    private static Map<String, Integer> termCounts(String title, String summary, String content) {
+        Map<String, Integer> counts = new HashMap<>();
+        addTerms(counts, title, TITLE_WEIGHT);
+        addTerms(counts, summary, SUMMARY_WEIGHT);
+        addTerms(counts, content, 1);
+        return counts;
+    }
+
+    private static void addTerms(Map<String, Integer> counts, String text, int weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String token : NON_WORD.split(text.toLowerCase())) {
+            if (token.length() >= 3 && !STOP_WORDS.contains(token) && !isNumber(token)) {
+                counts.merge(token, weight, Integer::sum);
+            }
+        }
+    }
+
+    private static boolean isNumber(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(List<Neighbour> related, Integer blogId) {
+        for (Neighbour n : related) {
+            if (n.blogId() == blogId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Pending(Integer id, String title, String slug, String summary, String category,
+                           String imageUrl, Map<String, Integer> counts) {
+    }
+
+    private record Doc(Integer id, String title, String slug, String summary, String category,
+                       String imageUrl, Set<String> terms, Map<String, Double> vector,
+                       List<Neighbour> related) {
+    }
+
+    private record Neighbour(int blogId, double score) {
+    }
+}
@@ -0,0 +1,230 @@
+package com.saif.portfolio.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.saif.portfolio.cache.CacheReloader;
+import com.saif.portfolio.dto.BlogListResponse;
+import com.saif.portfolio.dto.CacheOverviewResponse;
+import com.saif.portfolio.dto.CacheStatsResponse;
+import com.saif.portfolio.dto.ProjectResponse;
+import com.saif.portfolio.exception.ResourceNotFoundException;
+import com.saif.portfolio.model.Skill;
+import com.saif.portfolio.service.BlogService;
+import com.saif.portfolio.service.CacheAdminService;
+import com.saif.portfolio.service.CertificateService;
+import com.saif.portfolio.service.DashboardService;
+import com.saif.portfolio.service.ProjectService;
+import com.saif.portfolio.service.SkillService;
+
+/**
+ * Operational view of the Caffeine caches behind the CacheManager. Evictions and clears
+ * go through the Spring caches, so they are broadcast to the other nodes as usual.
+ * Warming calls the cached service methods with the arguments the public site opens
+ * with, so entries land under exactly the keys real requests use.
+ */
+@Service
+public class CacheAdminServiceImpl implements CacheAdminService {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheAdminServiceImpl.class);
+
+    // Default page size of the public listing endpoints
+    private static final int PAGE_SIZE = 6;
+
+    private final CacheManager cacheManager;
+    private final CacheReloader cacheReloader;
+    private final Map<String, Runnable> warmers = new LinkedHashMap<>();
+
+    public CacheAdminServiceImpl(CacheManager cacheManager,
+                                 CacheReloader cacheReloader,
+                                 ProjectService projectService,
+                                 BlogService blogService,
+                                 SkillService skillService,
+                                 CertificateService certificateService,
+                                 DashboardService dashboardService) {
+        this.cacheManager = cacheManager;
+        this.cacheReloader = cacheReloader;
+
+        warmers.put("allProjects", projectService::getAllProjects);
+        warmers.put("featuredProjects", projectService::getFeaturedProjects);
+        warmers.put("simpleProjects", () -> projectService.getAllSimpleProjectResponses(0, PAGE_SIZE));
+        warmers.put(ProjectEntityCache.BY_ID, () -> {
+            for (ProjectResponse project : projectService.getAllProjects()) {
+                warmOne(() -> projectService.getProjectBySlug(project.getSlug()));
+            }
+        });
+        warmers.put("blogList", () -> blogService.getAllBlogs(0, PAGE_SIZE));
+        warmers.put(BlogEntityCache.BY_ID, () -> {
+            for (BlogListResponse blog : blogService.getAllBlogs(0, PAGE_SIZE)) {
+                warmOne(() -> blogService.getBlogBySlug(blog.getSlug()));
+            }
+        });
+        warmers.put("blogListByCategory", () -> blogService.getAllBlogs(0, PAGE_SIZE).stream()
+                .map(BlogListResponse::getCategory)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(category -> blogService.getBlogsByCategory(category, 0, PAGE_SIZE)));
+        warmers.put("allSkills", skillService::getAllSkills);
+        warmers.put("skillsByCategory", () -> skillService.getAllSkills().stream()
+                .map(Skill::getCategory)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(skillService::getSkillsByCategorySorted));
+        warmers.put("certificatesPaged", () -> certificateService.getAllCertificates(0, PAGE_SIZE));
+        warmers.put("dashboardStats", dashboardService::getDashboardStats);
+    }
+
+    // -------------------------------------------------
+    // INSPECT
+    // -------------------------------------------------
+    @Override
+    public CacheOverviewResponse getCaches() {
+        List<CacheStatsResponse> caches = cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this::getCache)
+                .toList();
+        return new CacheOverviewResponse(caches, cacheReloader.stats());
+    }
+
+    @Override
+    public CacheStatsResponse getCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(name);
+        CacheStats stats = nativeCache.stats();
+        Policy<Object, Object> policy = nativeCache.policy();
+
+        Optional<Policy.Eviction<Object, Object>> eviction = policy.eviction()
+                .filter(e -> e.weightedSize().isPresent());
+
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(nativeCache.estimatedSize())
+                .weightedSize(eviction.map(e -> e.weightedSize().getAsLong()).orElse(null))
+                .maximumWeight(eviction.map(Policy.Eviction::getMaximum).orElse(null))
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRatio(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .oldestEntryAgeSeconds(oldestEntryAge(policy).map(Duration::toSeconds).orElse(null))
+                .refreshAhead(nativeCache instanceof LoadingCache && policy.refreshAfterWrite().isPresent())
+                .build();
+    }
+
+    // Keys as strings, the form evictKey() accepts
+    @Override
+    public List<String> getKeys(String name, int limit) {
+        return nativeCache(name).asMap().keySet().stream()
+                .map(String::valueOf)
+                .sorted()
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    // -------------------------------------------------
+    // EVICT
+    // -------------------------------------------------
+
+    // Matches on the key's string form so non-string keys (SimpleKey, numbers) can be targeted too
+    @Override
+    public boolean evictKey(String name, String key) {
+        Cache cache = cache(name);
+        List<Object> matches = new ArrayList<>();
+        for (Object candidate : nativeCache(name).asMap().keySet()) {
+            if (String.valueOf(candidate).equals(key)) {
+                matches.add(candidate);
+            }
+        }
+
+        if (matches.isEmpty()) {
+            // Not held here, but another node may have it
+            cache.evict(key);
+            return false;
+        }
+        matches.forEach(cache::evict);
+        log.info("Evicted {} from cache {}", key, name);
+        return true;
+    }
+
+    @Override
+    public void clearCache(String name) {
+        cache(name).clear();
+        log.info("Cleared cache {}", name);
+    }
+
+    // -------------------------------------------------
+    // WARM
+    // -------------------------------------------------
+
+    // No names warms every cache that has a warmer; entries already present are kept
+    @Override
+    public List<CacheStatsResponse> warmCaches(List<String> names) {
+        List<String> targets = names == null || names.isEmpty() ? List.copyOf(warmers.keySet()) : names;
+        for (String name : targets) {
+            if (!warmers.containsKey(name)) {
+                throw new ResourceNotFoundException("No warmer for cache: " + name);
+            }
+        }
+
+        List<CacheStatsResponse> warmed = new ArrayList<>(targets.size());
+        for (String name : targets) {
+            long start = System.nanoTime();
+            warmers.get(name).run();
+            log.info("Warmed cache {} in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+            warmed.add(getCache(name));
+        }
+        return warmed;
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    private Cache cache(String name) {
+        if (!cacheManager.getCacheNames().contains(name)) {
+            throw new ResourceNotFoundException("Cache not found: " + name);
+        }
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new ResourceNotFoundException("Cache not found: " + name);
+        }
+        return cache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String name) {
+        if (cache(name).getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache;
+        }
+        throw new ResourceNotFoundException("Not a Caffeine cache: " + name);
+    }
+
+    // Age of the least recently written entry; only caches with expireAfterWrite track it
+    private static Optional<Duration> oldestEntryAge(Policy<Object, Object> policy) {
+        return policy.expireAfterWrite().flatMap(expiration -> expiration.oldest(1).keySet().stream()
+                .findFirst()
+                .flatMap(expiration::ageOf));
+    }
+
+    // One missing slug must not stop the rest of the warm-up
+    private static void warmOne(Runnable call) {
+        try {
+            call.run();
+        } catch (ResourceNotFoundException ex) {
+            log.debug("Skipped while warming: {}", ex.getMessage());
+        }
+    }
+}
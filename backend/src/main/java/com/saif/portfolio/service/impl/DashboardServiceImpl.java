@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.saif.portfolio.repository.BlogRepository;
 import com.saif.portfolio.repository.CertificateRepository;
 import com.saif.portfolio.repository.ContactRepository;
+import com.saif.portfolio.repository.ContentViewRepository;
 import com.saif.portfolio.repository.ProjectRepository;
 import com.saif.portfolio.repository.SkillRepository;
 import com.saif.portfolio.repository.UserRepository;
@@ -28,6 +29,7 @@ public class DashboardServiceImpl implements DashboardService {
     private final SkillRepository skillRepository;
     private final CertificateRepository certificateRepository;
     private final UserRepository userRepository;
+    private final ContentViewRepository contentViewRepository;
 
     // -------------------------------------------------
     // DASHBOARD STATS
@@ -65,6 +67,12 @@ public class DashboardServiceImpl implements DashboardService {
         // ---------------- Blogs ----------------
         stats.put("totalBlogs", blogRepository.count());
 
+        // ---------------- Views (flushed totals) ----------------
+        stats.put("blogViews", 0L);
+        stats.put("projectViews", 0L);
+        contentViewRepository.sumViewsByContentType().forEach(row ->
+                stats.put(row[0] + "Views", ((Number) row[1]).longValue()));
+
         return stats;
     }
 
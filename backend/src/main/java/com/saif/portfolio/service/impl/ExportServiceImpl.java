@@ -0,0 +1,204 @@
+package com.saif.portfolio.service.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saif.portfolio.dto.ImageUploadResponse;
+import com.saif.portfolio.model.Blog;
+import com.saif.portfolio.model.Certificate;
+import com.saif.portfolio.model.Skill;
+import com.saif.portfolio.repository.BlogRepository;
+import com.saif.portfolio.repository.CertificateRepository;
+import com.saif.portfolio.repository.SkillRepository;
+import com.saif.portfolio.service.ExportService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes every skill, project, blog and certificate as one NDJSON line each.
+ * All reads go through server-side cursors with a bounded fetch size and every
+ * entity is detached once written, so memory stays flat however large the content gets.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportServiceImpl.class);
+
+    // Keep in step with the fetch-size hints on the repository stream methods
+    private static final int FETCH_SIZE = 200;
+
+    // One row per project, children folded into arrays so there are no per-row lookups
+    private static final String PROJECTS_SQL = """
+            SELECT p.id, p.title, p.slug, p.description, p.github_url, p.live_demo_url,
+                   p.live, p.published, p.featured, p.type, p.created_at, p.updated_at,
+                   ARRAY(SELECT f.key_feature FROM project_key_features f
+                         WHERE f.project_id = p.id ORDER BY f.key_feature) AS key_features,
+                   ARRAY(SELECT i.public_id FROM project_images i
+                         WHERE i.project_id = p.id ORDER BY i.id) AS image_public_ids,
+                   ARRAY(SELECT i.url FROM project_images i
+                         WHERE i.project_id = p.id ORDER BY i.id) AS image_urls,
+                   ARRAY(SELECT t.skill_id FROM project_technologies t
+                         WHERE t.project_id = p.id ORDER BY t.skill_id) AS technologies
+            FROM projects p
+            ORDER BY p.id
+            """;
+
+    private final SkillRepository skillRepository;
+    private final BlogRepository blogRepository;
+    private final CertificateRepository certificateRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate cursorTemplate;
+
+    public ExportServiceImpl(SkillRepository skillRepository,
+                             BlogRepository blogRepository,
+                             CertificateRepository certificateRepository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             DataSource dataSource) {
+        this.skillRepository = skillRepository;
+        this.blogRepository = blogRepository;
+        this.certificateRepository = certificateRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    // Read-only transaction keeps the cursors open (Postgres only streams with autocommit off)
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        long lines = 0;
+
+        try {
+            try (Stream<Skill> skills = skillRepository.streamAll()) {
+                lines += write(buffered, "skill", skills, true);
+            }
+            try (Stream<ProjectExport> projects = cursorTemplate.queryForStream(PROJECTS_SQL, this::toProject)) {
+                lines += write(buffered, "project", projects, false);
+            }
+            try (Stream<Blog> blogs = blogRepository.streamAllWithImage()) {
+                lines += write(buffered, "blog", blogs, true);
+            }
+            try (Stream<Certificate> certificates = certificateRepository.streamAll()) {
+                lines += write(buffered, "certificate", certificates, true);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        buffered.flush();
+        log.info("Content export finished: {} lines", lines);
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    // Entities are detached right after being written so the persistence context never grows
+    private long write(OutputStream out, String type, Stream<?> rows, boolean detach) {
+        long[] count = {0};
+        rows.forEachOrdered(row -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(new ExportLine(type, row)));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            if (detach) {
+                entityManager.detach(row);
+            }
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private ProjectExport toProject(ResultSet rs, int rowNum) throws SQLException {
+        List<String> publicIds = strings(rs.getArray("image_public_ids"));
+        List<String> urls = strings(rs.getArray("image_urls"));
+        List<ImageUploadResponse> images = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            images.add(new ImageUploadResponse(publicIds.get(i), urls.get(i)));
+        }
+
+        List<Long> technologies = new ArrayList<>();
+        Array techArray = rs.getArray("technologies");
+        if (techArray != null) {
+            for (Object id : (Object[]) techArray.getArray()) {
+                technologies.add(((Number) id).longValue());
+            }
+        }
+
+        return new ProjectExport(
+                rs.getInt("id"),
+                rs.getString("title"),
+                rs.getString("slug"),
+                rs.getString("description"),
+                rs.getString("github_url"),
+                rs.getString("live_demo_url"),
+                rs.getBoolean("live"),
+                rs.getBoolean("published"),
+                rs.getBoolean("featured"),
+                rs.getString("type"),
+                instant(rs.getTimestamp("created_at")),
+                instant(rs.getTimestamp("updated_at")),
+                strings(rs.getArray("key_features")),
+                images,
+                technologies
+        );
+    }
+
+    private static List<String> strings(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return Arrays.stream((Object[]) array.getArray()).map(String::valueOf).toList();
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    private record ExportLine(String type, Object data) {
+    }
+
+    // Same shape as ProjectRequest plus id and timestamps, technologies as skill ids
+    private record ProjectExport(
+            Integer id,
+            String title,
+            String slug,
+            String description,
+            String githubUrl,
+            String liveDemoUrl,
+            boolean live,
+            boolean published,
+            boolean featured,
+            String type,
+            Instant createdAt,
+            Instant updatedAt,
+            List<String> keyFeatures,
+            List<ImageUploadResponse> images,
+            List<Long> technologies) {
+    }
+}
@@ -0,0 +1,272 @@
+package com.saif.portfolio.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.saif.portfolio.dto.BlogListResponse;
+import com.saif.portfolio.dto.RenderedDocument;
+import com.saif.portfolio.model.ProjectCard;
+import com.saif.portfolio.repository.BlogRepository;
+import com.saif.portfolio.service.FeedService;
+
+/**
+ * RSS feed and sitemap.xml held in memory as ready-to-send bytes (plain and gzip).
+ * Every blog and published project keeps its own pre-rendered XML fragments; a write
+ * re-renders only the fragments of the item it touched and splices the documents
+ * back together, so nothing is re-read from the database after startup.
+ */
+@Service
+public class FeedServiceImpl implements FeedService, ProjectCardIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedServiceImpl.class);
+
+    private static final DateTimeFormatter RFC_1123 = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter W3C_DATE = DateTimeFormatter.ISO_LOCAL_DATE.withZone(ZoneOffset.UTC);
+
+    private static final Comparator<BlogEntry> NEWEST_FIRST =
+            Comparator.comparing(BlogEntry::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(Comparator.comparing(BlogEntry::id).reversed());
+
+    private final BlogRepository blogRepository;
+    private final String baseUrl;
+    private final String siteTitle;
+    private final int feedSize;
+
+    private final Map<Integer, BlogEntry> blogs = new HashMap<>();
+    private final Map<Integer, String> projectUrls = new HashMap<>(); // 🔹 published projects only
+
+    private volatile RenderedDocument feed;
+    private volatile RenderedDocument sitemap;
+
+    public FeedServiceImpl(BlogRepository blogRepository,
+                           @Value("${app.site.base-url:http://localhost:5173}") String baseUrl,
+                           @Value("${app.site.title:Portfolio}") String siteTitle,
+                           @Value("${app.feed.size:20}") int feedSize) {
+        this.blogRepository = blogRepository;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.siteTitle = siteTitle;
+        this.feedSize = feedSize;
+        assembleFeed();
+        assembleSitemap();
+    }
+
+    // -------------------------------------------------
+    // READ
+    // -------------------------------------------------
+    @Override
+    public RenderedDocument getFeed() {
+        return feed;
+    }
+
+    @Override
+    public RenderedDocument getSitemap() {
+        return sitemap;
+    }
+
+    // -------------------------------------------------
+    // LOAD (once; summaries only, never the Markdown)
+    // -------------------------------------------------
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<BlogListResponse> all = blogRepository.findAllSummaries(Pageable.unpaged()).getContent();
+        synchronized (this) {
+            blogs.clear();
+            all.forEach(blog -> blogs.put(blog.getId(), toEntry(blog)));
+            assembleFeed();
+            assembleSitemap();
+        }
+        log.info("Feed and sitemap rendered for {} blogs and {} projects", blogs.size(), projectUrls.size());
+    }
+
+    // -------------------------------------------------
+    // WRITE (after commit)
+    // -------------------------------------------------
+    @Override
+    public synchronized void putBlog(BlogListResponse blog) {
+        blogs.put(blog.getId(), toEntry(blog));
+        assembleFeed();
+        assembleSitemap();
+    }
+
+    @Override
+    public synchronized void removeBlog(Integer id) {
+        if (blogs.remove(id) != null) {
+            assembleFeed();
+            assembleSitemap();
+        }
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<ProjectCard> cards) {
+        projectUrls.clear();
+        cards.stream().filter(ProjectCard::isPublished)
+                .forEach(card -> projectUrls.put(card.getProjectId(), projectUrl(card, null)));
+        assembleSitemap();
+    }
+
+    @Override
+    public synchronized void put(ProjectCard card) {
+        String previous = card.isPublished()
+                ? projectUrls.put(card.getProjectId(), projectUrl(card, Instant.now()))
+                : projectUrls.remove(card.getProjectId());
+        if (card.isPublished() || previous != null) {
+            assembleSitemap();
+        }
+    }
+
+    @Override
+    public synchronized void remove(Integer projectId) {
+        if (projectUrls.remove(projectId) != null) {
+            assembleSitemap();
+        }
+    }
+
+    // -------------------------------------------------
+    // FRAGMENTS
+    // -------------------------------------------------
+    private BlogEntry toEntry(BlogListResponse blog) {
+        String link = baseUrl + "/blogs/" + blog.getSlug();
+
+        StringBuilder item = new StringBuilder(512)
+                .append("<item>")
+                .append("<title>").append(xml(blog.getTitle())).append("</title>")
+                .append("<link>").append(xml(link)).append("</link>")
+                .append("<guid isPermaLink=\"true\">").append(xml(link)).append("</guid>")
+                .append("<description>").append(xml(blog.getSummary())).append("</description>");
+        if (blog.getCategory() != null) {
+            item.append("<category>").append(xml(blog.getCategory())).append("</category>");
+        }
+        if (blog.getAuthor() != null) {
+            item.append("<dc:creator>").append(xml(blog.getAuthor())).append("</dc:creator>");
+        }
+        if (blog.getCreatedAt() != null) {
+            item.append("<pubDate>").append(RFC_1123.format(blog.getCreatedAt())).append("</pubDate>");
+        }
+        item.append("</item>\n");
+
+        Instant modified = blog.getUpdatedAt() != null ? blog.getUpdatedAt() : blog.getCreatedAt();
+        return new BlogEntry(blog.getId(), blog.getCreatedAt(), modified, item.toString(), url(link, modified));
+    }
+
+    private String projectUrl(ProjectCard card, Instant modified) {
+        return url(baseUrl + "/projects/" + card.getSlug(), modified);
+    }
+
+    private static String url(String loc, Instant modified) {
+        StringBuilder url = new StringBuilder(160).append("<url><loc>").append(xml(loc)).append("</loc>");
+        if (modified != null) {
+            url.append("<lastmod>").append(W3C_DATE.format(modified)).append("</lastmod>");
+        }
+        return url.append("</url>\n").toString();
+    }
+
+    // -------------------------------------------------
+    // DOCUMENTS (splice cached fragments, lock held)
+    // -------------------------------------------------
+    private void assembleFeed() {
+        List<BlogEntry> latest = blogs.values().stream().sorted(NEWEST_FIRST).limit(feedSize).toList();
+        Instant lastBuild = latest.stream()
+                .map(BlogEntry::modified)
+                .filter(m -> m != null)
+                .max(Comparator.naturalOrder())
+                .orElse(Instant.EPOCH);
+
+        StringBuilder doc = new StringBuilder(1024 + latest.size() * 512)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<rss version=\"2.0\" xmlns:dc=\"http://purl.org/dc/elements/1.1/\">\n<channel>\n")
+                .append("<title>").append(xml(siteTitle)).append("</title>\n")
+                .append("<link>").append(xml(baseUrl + "/blogs")).append("</link>\n")
+                .append("<description>").append(xml("Latest posts from " + siteTitle)).append("</description>\n")
+                .append("<lastBuildDate>").append(RFC_1123.format(lastBuild)).append("</lastBuildDate>\n");
+        latest.forEach(entry -> doc.append(entry.item()));
+        doc.append("</channel>\n</rss>\n");
+        feed = render(doc);
+    }
+
+    private void assembleSitemap() {
+        StringBuilder doc = new StringBuilder(512 + (blogs.size() + projectUrls.size()) * 128)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n")
+                .append(url(baseUrl + "/", null))
+                .append(url(baseUrl + "/blogs", null))
+                .append(url(baseUrl + "/projects", null));
+        blogs.values().stream().sorted(NEWEST_FIRST).forEach(entry -> doc.append(entry.url()));
+        projectUrls.entrySet().stream()
+                .sorted(Map.Entry.<Integer, String>comparingByKey().reversed())
+                .forEach(entry -> doc.append(entry.getValue()));
+        doc.append("</urlset>\n");
+        sitemap = render(doc);
+    }
+
+    private static RenderedDocument render(CharSequence doc) {
+        byte[] body = doc.toString().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new RenderedDocument(body, gzipped.toByteArray(), etag(body));
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    // XML 1.0 escaping; control characters XML cannot carry are dropped
+    private static String xml(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&apos;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private record BlogEntry(Integer id, Instant createdAt, Instant modified, String item, String url) {
+    }
+}
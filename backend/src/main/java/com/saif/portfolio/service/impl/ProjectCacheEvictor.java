@@ -0,0 +1,39 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.filter.ProjectResponseCacheFilter;
+import com.saif.portfolio.util.CacheUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Targeted eviction for project caches, for writes that only touch a known set of projects.
+ * Call it inside the writing transaction: other nodes are notified on commit and this node
+ * drops its entries once the transaction commits (see {@link com.saif.portfolio.cache.BroadcastingCache}).
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final ProjectEntityCache projectEntityCache;
+
+    // Listings may include any changed project; detail entries only for the changed ids and slugs
+    // (include the old slug when a project is renamed)
+    public void evictProjects(Collection<Integer> ids, Collection<String> slugs) {
+        Set<String> normalized = slugs.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toSet());
+
+        CacheUtil.clear(cacheManager, "allProjects", "featuredProjects", "simpleProjects");
+        projectEntityCache.evict(ids, normalized);
+        CacheUtil.evictIf(cacheManager, ProjectResponseCacheFilter.CACHE_NAME,
+                ProjectResponseCacheFilter.listings());
+    }
+}
@@ -0,0 +1,18 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.Collection;
+
+import com.saif.portfolio.model.ProjectCard;
+
+/**
+ * In-memory index fed from the project_cards read model by {@link ProjectCardWriter}.
+ * Calls arrive after the writing transaction has committed.
+ */
+public interface ProjectCardIndex {
+
+    void rebuild(Collection<ProjectCard> cards);
+
+    void put(ProjectCard card);
+
+    void remove(Integer projectId);
+}
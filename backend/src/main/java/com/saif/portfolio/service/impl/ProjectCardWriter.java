@@ -0,0 +1,222 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.saif.portfolio.cache.CacheInvalidationBus;
+import com.saif.portfolio.dto.ProjectFlagsResponse;
+import com.saif.portfolio.model.Project;
+import com.saif.portfolio.model.ProjectCard;
+import com.saif.portfolio.model.ProjectImage;
+import com.saif.portfolio.model.Skill;
+import com.saif.portfolio.repository.ProjectCardRepository;
+import com.saif.portfolio.repository.ProjectRepository;
+import com.saif.portfolio.util.TransactionUtil;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the project_cards read model in step with projects, and is the only place that
+ * knows how a card is derived from a project (JPA writes, bulk flags and the importer all
+ * come through here). Callers invoke it inside their own transaction, after the project
+ * rows have been flushed; the in-memory {@link ProjectCardIndex} beans receive the new
+ * cards once it commits. The changed ids are broadcast as well, and other nodes reload
+ * those cards into their own indexes.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectCardWriter implements CacheInvalidationBus.Subscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectCardWriter.class);
+
+    private static final String TOPIC = "project-cards";
+
+    private final ProjectCardRepository projectCardRepository;
+    private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final List<ProjectCardIndex> indexes;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(TOPIC, this);
+    }
+
+    public void upsert(Project project) {
+        upsertAll(List.of(project));
+    }
+
+    // One SELECT for the existing cards; new ones are persisted without merge's per-row lookup
+    public void upsertAll(Collection<Project> projects) {
+        Map<Integer, ProjectCard> existing = projectCardRepository
+                .findAllById(projects.stream().map(Project::getId).toList()).stream()
+                .collect(Collectors.toMap(ProjectCard::getProjectId, Function.identity()));
+
+        List<ProjectCard> cards = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            ProjectCard card = toCard(project);
+            ProjectCard managed = existing.get(card.getProjectId());
+            if (managed == null) {
+                entityManager.persist(card);
+                existing.put(card.getProjectId(), card);
+                cards.add(card);
+            } else {
+                copy(card, managed);
+                cards.add(managed);
+            }
+        }
+        publish(existing.keySet());
+        TransactionUtil.afterCommit(() -> indexes.forEach(index -> cards.forEach(index::put)));
+    }
+
+    // Call before deleting the project: with the ON DELETE CASCADE key the card would
+    // already be gone and this DELETE would fail as a stale update
+    public void remove(Integer projectId) {
+        projectCardRepository.findById(projectId).ifPresent(projectCardRepository::delete);
+        publish(List.of(projectId));
+        TransactionUtil.afterCommit(() -> indexes.forEach(index -> index.remove(projectId)));
+    }
+
+    // Bulk flag changes only touch three columns, so the cards are patched rather than rebuilt
+    public void updateFlags(Collection<ProjectFlagsResponse> flags) {
+        Map<Integer, ProjectFlagsResponse> byId = flags.stream()
+                .collect(Collectors.toMap(ProjectFlagsResponse::getId, Function.identity()));
+
+        List<ProjectCard> cards = projectCardRepository.findAllById(byId.keySet());
+        for (ProjectCard card : cards) {
+            ProjectFlagsResponse f = byId.get(card.getProjectId());
+            card.setLive(f.isLive());
+            card.setPublished(f.isPublished());
+            card.setFeatured(f.isFeatured());
+        }
+        publish(byId.keySet());
+        TransactionUtil.afterCommit(() -> indexes.forEach(index -> cards.forEach(index::put)));
+    }
+
+    // -------------------------------------------------
+    // BACKFILL
+    // -------------------------------------------------
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfStale() {
+        long cards = projectCardRepository.count();
+        long projects = projectRepository.count();
+        if (cards != projects || projectCardRepository.existsByKeyFeaturesIsNull()) {
+            log.info("Rebuilding project_cards ({} cards for {} projects)", cards, projects);
+            projectCardRepository.deleteAllInBatch();
+            projectCardRepository.saveAll(projectRepository.findAll().stream().map(this::toCard).toList());
+        }
+
+        List<ProjectCard> all = projectCardRepository.findAll();
+        TransactionUtil.afterCommit(() -> indexes.forEach(index -> index.rebuild(all)));
+    }
+
+    // -------------------------------------------------
+    // PEERS
+    // -------------------------------------------------
+
+    // Sent inside the caller's transaction, so peers only hear of committed cards
+    private void publish(Collection<Integer> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        cacheInvalidationBus.publish(TOPIC, projectIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+    }
+
+    // Cards that no longer exist were deleted
+    @Override
+    public void onMessage(String message) {
+        List<Integer> ids = Arrays.stream(message.split(",")).map(Integer::valueOf).toList();
+        Map<Integer, ProjectCard> found = projectCardRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ProjectCard::getProjectId, Function.identity()));
+        for (Integer id : ids) {
+            ProjectCard card = found.get(id);
+            indexes.forEach(index -> {
+                if (card != null) {
+                    index.put(card);
+                } else {
+                    index.remove(id);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onResync() {
+        List<ProjectCard> all = projectCardRepository.findAll();
+        indexes.forEach(index -> index.rebuild(all));
+        log.info("Project card indexes resynced with {} cards", all.size());
+    }
+
+    private ProjectCard toCard(Project p) {
+        String imageUrl = p.getImages() == null ? null
+                : p.getImages().stream()
+                        .filter(i -> i.getId() != null)
+                        .min(Comparator.comparing(ProjectImage::getId))
+                        .map(ProjectImage::getUrl)
+                        .orElse(null);
+
+        List<String> technologies = p.getTechnologies() == null ? List.of()
+                : p.getTechnologies().stream()
+                        .map(Skill::getName)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .sorted()
+                        .toList();
+
+        String keyFeatures = p.getKeyFeatures() == null ? ""
+                : p.getKeyFeatures().stream()
+                        .map(f -> f.getId().getKeyFeature())
+                        .sorted()
+                        .collect(Collectors.joining("\n"));
+
+        return ProjectCard.builder()
+                .projectId(p.getId())
+                .title(p.getTitle())
+                .slug(p.getSlug())
+                .description(p.getDescription())
+                .githubUrl(p.getGithubUrl())
+                .liveDemoUrl(p.getLiveDemoUrl())
+                .live(p.isLive())
+                .published(p.isPublished())
+                .featured(p.isFeatured())
+                .type(p.getType())
+                .imageUrl(imageUrl)
+                .technologies(technologies)
+                .keyFeatures(keyFeatures)
+                .build();
+    }
+
+    private static void copy(ProjectCard from, ProjectCard to) {
+        to.setTitle(from.getTitle());
+        to.setSlug(from.getSlug());
+        to.setDescription(from.getDescription());
+        to.setGithubUrl(from.getGithubUrl());
+        to.setLiveDemoUrl(from.getLiveDemoUrl());
+        to.setLive(from.isLive());
+        to.setPublished(from.isPublished());
+        to.setFeatured(from.isFeatured());
+        to.setType(from.getType());
+        to.setImageUrl(from.getImageUrl());
+        to.setTechnologies(from.getTechnologies());
+        to.setKeyFeatures(from.getKeyFeatures());
+    }
+}
@@ -0,0 +1,22 @@
+package com.saif.portfolio.service.impl;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.cache.EntityCache;
+import com.saif.portfolio.dto.ProjectResponse;
+
+/**
+ * Project detail responses, shared by getProjectById and getProjectBySlug.
+ */
+@Component
+public class ProjectEntityCache extends EntityCache<ProjectResponse> {
+
+    public static final String BY_ID = "projectById";
+    public static final String ID_BY_SLUG = "projectIdBySlug";
+
+    public ProjectEntityCache(CacheManager cacheManager) {
+        super(cacheManager, BY_ID, ID_BY_SLUG, ProjectResponse.class,
+                ProjectResponse::getId, ProjectResponse::getSlug);
+    }
+}
@@ -0,0 +1,213 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.dto.ProjectFilter;
+import com.saif.portfolio.model.ProjectCard;
+import com.saif.portfolio.model.ProjectType;
+
+/**
+ * Bitmap inverted index over project cards for faceted filtering.
+ * Every technology, type and flag maps to a bitset of project ids, so a filter
+ * is a handful of AND/OR operations and results come back newest first.
+ */
+@Component
+public class ProjectFilterIndex implements ProjectCardIndex {
+
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, ProjectCard> cards = new HashMap<>();
+    private final Map<String, BitSet> byTechnology = new HashMap<>();
+    private final Map<ProjectType, BitSet> byType = new EnumMap<>(ProjectType.class);
+    private final BitSet all = new BitSet();
+    private final BitSet live = new BitSet();
+    private final BitSet published = new BitSet();
+    private final BitSet featured = new BitSet();
+
+    // -------------------------------------------------
+    // READ
+    // -------------------------------------------------
+    public Page<ProjectCard> filter(ProjectFilter filter, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) all.clone();
+            and(matches, technologies(filter));
+            and(matches, types(filter.getTypes()));
+            and(matches, flag(live, filter.getLive()));
+            and(matches, flag(published, filter.getPublished()));
+            and(matches, flag(featured, filter.getFeatured()));
+
+            List<ProjectCard> content = new ArrayList<>(Math.min(pageable.getPageSize(), matches.cardinality()));
+            long skip = pageable.getOffset();
+            for (int id = matches.previousSetBit(matches.length() - 1);
+                    id >= 0 && content.size() < pageable.getPageSize();
+                    id = matches.previousSetBit(id - 1)) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    content.add(cards.get(id));
+                }
+            }
+            return new PageImpl<>(content, pageable, matches.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------
+    // WRITE
+    // -------------------------------------------------
+    @Override
+    public void rebuild(Collection<ProjectCard> rebuilt) {
+        lock.writeLock().lock();
+        try {
+            cards.clear();
+            byTechnology.clear();
+            byType.clear();
+            all.clear();
+            live.clear();
+            published.clear();
+            featured.clear();
+            rebuilt.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(ProjectCard card) {
+        lock.writeLock().lock();
+        try {
+            clear(card.getProjectId());
+            add(card);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Integer projectId) {
+        lock.writeLock().lock();
+        try {
+            clear(projectId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    private void add(ProjectCard card) {
+        int id = card.getProjectId();
+        cards.put(id, card);
+        all.set(id);
+        live.set(id, card.isLive());
+        published.set(id, card.isPublished());
+        featured.set(id, card.isFeatured());
+        if (card.getType() != null) {
+            byType.computeIfAbsent(card.getType(), t -> new BitSet()).set(id);
+        }
+        if (card.getTechnologies() != null) {
+            for (String tech : card.getTechnologies()) {
+                byTechnology.computeIfAbsent(key(tech), t -> new BitSet()).set(id);
+            }
+        }
+    }
+
+    private void clear(int id) {
+        ProjectCard previous = cards.remove(id);
+        if (previous == null) {
+            return;
+        }
+        all.clear(id);
+        live.clear(id);
+        published.clear(id);
+        featured.clear(id);
+        if (previous.getType() != null) {
+            byType.get(previous.getType()).clear(id);
+        }
+        if (previous.getTechnologies() != null) {
+            for (String tech : previous.getTechnologies()) {
+                BitSet bits = byTechnology.get(key(tech));
+                if (bits != null) {
+                    bits.clear(id);
+                    if (bits.isEmpty()) {
+                        byTechnology.remove(key(tech));
+                    }
+                }
+            }
+        }
+    }
+
+    // null means the facet does not filter
+    private BitSet technologies(ProjectFilter filter) {
+        List<String> techs = filter.getTechnologies();
+        if (techs == null || techs.isEmpty()) {
+            return null;
+        }
+        BitSet result = null;
+        for (String tech : techs) {
+            BitSet bits = byTechnology.getOrDefault(key(tech), new BitSet());
+            if (result == null) {
+                result = (BitSet) bits.clone();
+            } else if (filter.isMatchAllTechnologies()) {
+                result.and(bits);
+            } else {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    private BitSet types(List<ProjectType> types) {
+        if (types == null || types.isEmpty()) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        for (ProjectType type : types) {
+            BitSet bits = byType.get(type);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    private BitSet flag(BitSet set, Boolean wanted) {
+        if (wanted == null) {
+            return null;
+        }
+        if (wanted) {
+            return set;
+        }
+        BitSet unset = (BitSet) all.clone();
+        unset.andNot(set);
+        return unset;
+    }
+
+    private static void and(BitSet matches, BitSet facet) {
+        if (facet != null) {
+            matches.and(facet);
+        }
+    }
+
+    private static String key(String technology) {
+        return technology.trim().toLowerCase();
+    }
+}
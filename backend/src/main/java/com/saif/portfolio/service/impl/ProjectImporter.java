@@ -0,0 +1,267 @@
+package com.saif.portfolio.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saif.portfolio.dto.ProjectImportResponse;
+import com.saif.portfolio.dto.ProjectImportResponse.RowError;
+import com.saif.portfolio.dto.ProjectRequest;
+import com.saif.portfolio.model.Skill;
+import com.saif.portfolio.repository.ProjectRepository;
+import com.saif.portfolio.repository.SkillRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streams a JSON array or NDJSON upload of {@link ProjectRequest} rows into the project tables.
+ * Rows are validated up front, then written chunk by chunk with plain JDBC batches:
+ * project ids are drawn from the table's sequence in one round trip per chunk, which is
+ * what IDENTITY generation prevents Hibernate from doing. Each chunk commits on its own;
+ * a chunk that fails is retried one row per transaction, so only the bad rows are reported.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectImporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectCardWriter projectCardWriter;
+
+    @Value("${app.import.batch-size:100}")
+    private int batchSize;
+
+    public ProjectImportResponse importProjects(InputStream in) throws IOException {
+
+        Map<Long, String> skillNames = skillRepository.findAll().stream()
+                .collect(Collectors.toMap(Skill::getId, Skill::getName));
+
+        Set<String> seenSlugs = new HashSet<>();
+        List<RowError> errors = new ArrayList<>();
+        List<Row> chunk = new ArrayList<>(batchSize);
+        int total = 0;
+        int imported = 0;
+
+        try (MappingIterator<ProjectRequest> rows =
+                objectMapper.readerFor(ProjectRequest.class).readValues(in)) {
+
+            while (true) {
+                ProjectRequest request;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    total++;
+                    request = rows.nextValue();
+                } catch (JsonParseException ex) {
+                    // Broken syntax: nothing after this point can be trusted
+                    errors.add(new RowError(total, null, "Malformed JSON: " + ex.getOriginalMessage()));
+                    break;
+                } catch (JsonMappingException ex) {
+                    errors.add(new RowError(total, null, "Invalid row: " + ex.getOriginalMessage()));
+                    continue;
+                }
+
+                String error = validate(request, skillNames, seenSlugs);
+                if (error != null) {
+                    errors.add(new RowError(total, request != null ? request.getSlug() : null, error));
+                    continue;
+                }
+
+                chunk.add(new Row(total, request, request.getSlug().toLowerCase()));
+                if (chunk.size() >= batchSize) {
+                    imported += flush(chunk, errors);
+                    chunk.clear();
+                }
+            }
+        }
+
+        imported += flush(chunk, errors);
+
+        log.info("Project import finished: {} rows, {} imported, {} failed", total, imported, errors.size());
+        return new ProjectImportResponse(total, imported, total - imported, errors);
+    }
+
+    // -------------------------------------------------
+    // VALIDATION
+    // -------------------------------------------------
+    private String validate(ProjectRequest request, Map<Long, String> skillNames, Set<String> seenSlugs) {
+
+        if (request == null) {
+            return "Empty row";
+        }
+
+        Set<ConstraintViolation<ProjectRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        if (!seenSlugs.add(request.getSlug().toLowerCase())) {
+            return "Duplicate slug in import: " + request.getSlug();
+        }
+
+        List<Long> invalid = request.getTechnologies().stream()
+                .filter(id -> !skillNames.containsKey(id))
+                .toList();
+        if (!invalid.isEmpty()) {
+            return "Invalid technology IDs: " + invalid;
+        }
+        return null;
+    }
+
+    // -------------------------------------------------
+    // BATCH WRITE
+    // -------------------------------------------------
+    private int flush(List<Row> chunk, List<RowError> errors) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        // One lookup per chunk for slugs that already exist. Slugs are stored lower-cased,
+        // so a plain IN can use the unique index on slug
+        Set<String> existing = new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT slug FROM projects WHERE slug IN (:slugs)",
+                new MapSqlParameterSource("slugs", chunk.stream().map(Row::slug).toList()),
+                String.class));
+
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existing.contains(row.slug())) {
+                errors.add(new RowError(row.number(), row.slug(),
+                        "Project with slug already exists: " + row.slug()));
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.execute(status -> insert(rows));
+            return rows.size();
+        } catch (DataAccessException ex) {
+            // One bad row rolls back the whole chunk; retrying row by row pins the error on it
+            log.warn("Project import chunk failed, retrying its {} rows one by one: {}",
+                    rows.size(), ex.getMostSpecificCause().getMessage());
+            return insertOneByOne(rows, errors);
+        }
+    }
+
+    private int insertOneByOne(List<Row> rows, List<RowError> errors) {
+        int imported = 0;
+        for (Row row : rows) {
+            try {
+                transactionTemplate.execute(status -> insert(List.of(row)));
+                imported++;
+            } catch (DataAccessException ex) {
+                errors.add(new RowError(row.number(), row.slug(),
+                        "Insert failed: " + ex.getMostSpecificCause().getMessage()));
+            }
+        }
+        return imported;
+    }
+
+    private List<Integer> insert(List<Row> rows) {
+
+        List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('projects', 'id')) FROM generate_series(1, ?)",
+                Integer.class, rows.size());
+
+        Timestamp now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO projects (id, title, slug, description, github_url, live_demo_url,
+                                      live, published, featured, type, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bindProject(ps, ids.get(i), rows.get(i));
+                ps.setTimestamp(11, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+
+        List<Object[]> features = new ArrayList<>();
+        List<Object[]> images = new ArrayList<>();
+        List<Object[]> technologies = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ProjectRequest r = rows.get(i).request();
+            Integer id = ids.get(i);
+            new LinkedHashSet<>(r.getKeyFeatures()).forEach(f -> features.add(new Object[] {id, f}));
+            r.getImages().forEach(img -> images.add(new Object[] {id, img.getPublicId(), img.getUrl()}));
+            r.getTechnologies().forEach(skillId -> technologies.add(new Object[] {id, skillId}));
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO project_key_features (project_id, key_feature) VALUES (?, ?)", features);
+        // Inserted in request order, so the first image keeps the lowest id like createProject
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO project_images (project_id, public_id, url) VALUES (?, ?, ?)", images);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO project_technologies (project_id, skill_id) VALUES (?, ?)", technologies);
+
+        // Cards are derived in one place; the new rows are read back through JPA in this transaction
+        projectCardWriter.upsertAll(projectRepository.findAllById(ids));
+        return ids;
+    }
+
+    private void bindProject(PreparedStatement ps, int id, Row row) throws SQLException {
+        ProjectRequest r = row.request();
+        ps.setInt(1, id);
+        ps.setString(2, r.getTitle());
+        ps.setString(3, row.slug());
+        ps.setString(4, r.getDescription());
+        ps.setString(5, r.getGithubUrl());
+        ps.setString(6, r.getLiveDemoUrl());
+        ps.setBoolean(7, r.getLive());
+        ps.setBoolean(8, r.getPublished());
+        ps.setBoolean(9, r.getFeatured());
+        ps.setString(10, r.getType().name());
+    }
+
+    private record Row(int number, ProjectRequest request, String slug) {
+    }
+}
@@ -1,9 +1,14 @@
 package com.saif.portfolio.service.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -17,16 +22,23 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.saif.portfolio.dto.ImageUploadResponse;
+import com.saif.portfolio.dto.ProjectFilter;
+import com.saif.portfolio.dto.ProjectFlagsRequest;
+import com.saif.portfolio.dto.ProjectFlagsResponse;
+import com.saif.portfolio.dto.ProjectImportResponse;
 import com.saif.portfolio.dto.ProjectRequest;
 import com.saif.portfolio.dto.ProjectResponse;
+import com.saif.portfolio.dto.RelatedProjectResponse;
 import com.saif.portfolio.dto.SimpleProjectResponse;
 import com.saif.portfolio.exception.ResourceNotFoundException;
 import com.saif.portfolio.model.Project;
+import com.saif.portfolio.model.ProjectCard;
 import com.saif.portfolio.model.ProjectImage;
 import com.saif.portfolio.model.ProjectKeyFeature;
 import com.saif.portfolio.model.ProjectKeyFeatureId;
 import com.saif.portfolio.model.ProjectType;
 import com.saif.portfolio.model.Skill;
+import com.saif.portfolio.repository.ProjectCardRepository;
 import com.saif.portfolio.repository.ProjectRepository;
 import com.saif.portfolio.repository.SkillRepository;
 import com.saif.portfolio.service.ProjectService;
@@ -39,6 +51,14 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
     private final SkillRepository skillRepository;
+    private final ProjectCardRepository projectCardRepository;
+    private final ProjectCardWriter projectCardWriter;
+    private final ProjectCacheEvictor projectCacheEvictor;
+    private final ProjectEntityCache projectEntityCache;
+    private final ReadOnlyLoader readOnlyLoader;
+    private final ProjectImporter projectImporter;
+    private final ProjectSimilarityIndex projectSimilarityIndex;
+    private final ProjectFilterIndex projectFilterIndex;
 
     // -------------------------------------------------
     // READ
@@ -59,8 +79,16 @@ public class ProjectServiceImpl implements ProjectService {
     public Page<SimpleProjectResponse> getAllSimpleProjectResponses(int page, int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        return projectRepository.findAllSimpleProjectsNative(pageable)
-                .map(this::mapSimpleProject);
+        return projectCardRepository.findAllByOrderByProjectIdDesc(pageable)
+                .map(this::toSimpleResponse);
+    }
+
+    // Served from the in-memory bitmap index, no database round trip
+    @Override
+    public Page<SimpleProjectResponse> filterProjects(ProjectFilter filter, int page, int size) {
+        return projectFilterIndex.filter(filter,
+                        PageRequest.of(page, Math.min(size, ProjectFilterIndex.MAX_PAGE_SIZE)))
+                .map(this::toSimpleResponse);
     }
 
     @Override
@@ -73,27 +101,33 @@ public class ProjectServiceImpl implements ProjectService {
                 .toList();
     }
 
+    // Id and slug share one cached entry (ProjectEntityCache); only a miss opens a transaction
     @Override
-    @Transactional(readOnly = true)
     public ProjectResponse getProjectById(int id) {
-        return toResponse(findProject(id));
+        return projectEntityCache.getById(id,
+                () -> readOnlyLoader.load(() -> toResponse(findProject(id))));
     }
 
     @Override
-    @Cacheable(value = "projectBySlug", key = "#slug.toLowerCase()")
-    @Transactional(readOnly = true)
     public ProjectResponse getProjectBySlug(String slug) {
-        return toResponse(
+        return projectEntityCache.getBySlug(slug, () -> readOnlyLoader.load(() -> toResponse(
                 projectRepository.findBySlugIgnoreCase(slug)
                         .orElseThrow(()
                                 -> new ResourceNotFoundException("Project not found with slug: " + slug))
-        );
+        )));
+    }
+
+    // Served from the in-memory similarity index, no database round trip
+    @Override
+    public List<RelatedProjectResponse> getRelatedProjects(String slug) {
+        return projectSimilarityIndex.related(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with slug: " + slug));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponse> getProjectsByType(String type) {
-        ProjectType projectType = ProjectType.valueOf(type.toUpperCase());
+        ProjectType projectType = ProjectType.fromValue(type);
         return projectRepository.findByType(projectType)
                 .stream()
                 .map(this::toResponse)
@@ -105,9 +139,6 @@ public class ProjectServiceImpl implements ProjectService {
     // -------------------------------------------------
     @Override
     @Transactional
-    @CacheEvict(allEntries = true, value = {
-        "allProjects", "projectBySlug", "featuredProjects", "simpleProjects"
-    })
     public ProjectResponse createProject(ProjectRequest request) {
 
         String slug = request.getSlug().toLowerCase();
@@ -124,7 +155,9 @@ public class ProjectServiceImpl implements ProjectService {
         attachImages(project, request);
         attachTechnologies(project, request);
 
-        return toResponse(projectRepository.save(project));
+        ProjectResponse response = toResponse(saveWithCard(project));
+        projectCacheEvictor.evictProjects(List.of(response.getId()), List.of(slug));
+        return response;
     }
 
     // -------------------------------------------------
@@ -132,12 +165,10 @@ public class ProjectServiceImpl implements ProjectService {
     // -------------------------------------------------
     @Override
     @Transactional
-    @CacheEvict(allEntries = true, value = {
-        "allProjects", "projectBySlug", "featuredProjects", "simpleProjects"
-    })
     public ProjectResponse updateProject(Integer id, ProjectRequest request) {
 
         Project project = findProject(id);
+        String oldSlug = project.getSlug();
         String slug = request.getSlug().toLowerCase();
 
         if (!project.getSlug().equals(slug)
@@ -150,9 +181,11 @@ public class ProjectServiceImpl implements ProjectService {
 
         syncKeyFeatures(project, request);
         syncImages(project, request);
-        attachTechnologies(project, request);
+        syncTechnologies(project, request);
 
-        return toResponse(projectRepository.save(project));
+        ProjectResponse response = toResponse(saveWithCard(project));
+        projectCacheEvictor.evictProjects(List.of(id), List.of(oldSlug, slug));
+        return response;
     }
 
     // -------------------------------------------------
@@ -160,42 +193,86 @@ public class ProjectServiceImpl implements ProjectService {
     // -------------------------------------------------
     @Override
     @Transactional
-    @CacheEvict(
-            allEntries = true,
-            value = {
-                "allProjects",
-                "projectBySlug",
-                "featuredProjects",
-                "simpleProjects"
-            }
-    )
     public ProjectResponse deleteProject(Integer id) {
 
         Project project = projectRepository.findById(id)
                 .orElseThrow(()
                         -> new ResourceNotFoundException("Project not found with id: " + id));
 
+        projectCardWriter.remove(id);
         projectRepository.delete(project);
+        projectCacheEvictor.evictProjects(List.of(id), List.of(project.getSlug()));
 
-        
         return toResponse(project);
     }
 
     @Override
+    @Transactional
     public ProjectResponse toggleLive(Integer id) {
         return toggle(id, p -> p.setLive(!p.isLive()));
     }
 
     @Override
+    @Transactional
     public ProjectResponse togglePublished(Integer id) {
         return toggle(id, p -> p.setPublished(!p.isPublished()));
     }
 
     @Override
+    @Transactional
     public ProjectResponse toggleFeatured(Integer id) {
         return toggle(id, p -> p.setFeatured(!p.isFeatured()));
     }
 
+    @Override
+    @Transactional
+    public List<ProjectFlagsResponse> updateFlags(ProjectFlagsRequest request) {
+
+        List<Integer> ids = request.getIds().stream().distinct().toList();
+
+        List<ProjectFlagsResponse> updated = projectRepository.updateFlags(
+                        ids,
+                        request.getLive() != null, Boolean.TRUE.equals(request.getLive()),
+                        request.getPublished() != null, Boolean.TRUE.equals(request.getPublished()),
+                        request.getFeatured() != null, Boolean.TRUE.equals(request.getFeatured()))
+                .stream()
+                .map(r -> new ProjectFlagsResponse(
+                        ((Number) r[0]).intValue(),
+                        (String) r[1],
+                        (Boolean) r[2],
+                        (Boolean) r[3],
+                        (Boolean) r[4]
+                ))
+                .toList();
+
+        // Unknown ids roll the whole batch back
+        if (updated.size() != ids.size()) {
+            Set<Integer> found = updated.stream()
+                    .map(ProjectFlagsResponse::getId)
+                    .collect(Collectors.toSet());
+            List<Integer> missing = ids.stream().filter(id -> !found.contains(id)).toList();
+            throw new ResourceNotFoundException("Projects not found with ids: " + missing);
+        }
+
+        projectCardWriter.updateFlags(updated);
+        projectCacheEvictor.evictProjects(
+                ids, updated.stream().map(ProjectFlagsResponse::getSlug).toList());
+        return updated;
+    }
+
+    // -------------------------------------------------
+    // BULK IMPORT
+    // -------------------------------------------------
+    // Chunks commit independently inside the importer; caches are evicted once at the end
+    @Override
+    @CacheEvict(allEntries = true, value = {
+        "allProjects", ProjectEntityCache.BY_ID, ProjectEntityCache.ID_BY_SLUG,
+        "featuredProjects", "simpleProjects", "projectResponses"
+    })
+    public ProjectImportResponse importProjects(InputStream in) throws IOException {
+        return projectImporter.importProjects(in);
+    }
+
     // -------------------------------------------------
     // INTERNAL HELPERS
     // -------------------------------------------------
@@ -209,31 +286,36 @@ public class ProjectServiceImpl implements ProjectService {
         Project project = findProject(id);
         action.accept(project);
         project.setUpdatedAt(Instant.now());
-        return toResponse(projectRepository.save(project));
-    }
 
-    private SimpleProjectResponse mapSimpleProject(Object[] r) {
+        ProjectResponse response = toResponse(saveWithCard(project));
+        projectCacheEvictor.evictProjects(List.of(id), List.of(project.getSlug()));
+        return response;
+    }
 
-        List<String> techs = r[11] == null || ((String) r[11]).isBlank()
-                ? List.of()
-                : List.of(((String) r[11]).split(","))
-                        .stream()
-                        .map(String::trim)
-                        .toList();
+    // Flush first so new image ids exist when the card picks its cover image
+    // Managed projects are written by dirty checking alone: merge() would cascade into
+    // every child and SELECT each new key feature before inserting it
+    private Project saveWithCard(Project project) {
+        Project saved = project.getId() == null ? projectRepository.save(project) : project;
+        projectRepository.flush();
+        projectCardWriter.upsert(saved);
+        return saved;
+    }
 
+    private SimpleProjectResponse toSimpleResponse(ProjectCard c) {
         return new SimpleProjectResponse(
-                ((Number) r[0]).intValue(),
-                (String) r[1],
-                (String) r[2],
-                (String) r[3],
-                (String) r[4],
-                (String) r[5],
-                (Boolean) r[6],
-                (Boolean) r[7],
-                (Boolean) r[8],
-                (String) r[9],
-                (String) r[10],
-                techs
+                c.getProjectId(),
+                c.getTitle(),
+                c.getSlug(),
+                c.getDescription(),
+                c.getGithubUrl(),
+                c.getLiveDemoUrl(),
+                c.isLive(),
+                c.isPublished(),
+                c.isFeatured(),
+                c.getType() != null ? c.getType().name() : null,
+                c.getImageUrl(),
+                c.getTechnologies() == null ? List.of() : c.getTechnologies()
         );
     }
 
@@ -302,6 +384,8 @@ public class ProjectServiceImpl implements ProjectService {
         project.setKeyFeatures(features);
     }
 
+    // Diffs computed once per collection and applied to the managed collections in place,
+    // so the flush only touches changed rows and JDBC batching groups them per collection
     private void syncKeyFeatures(Project project, ProjectRequest request) {
         if (request.getKeyFeatures() == null) {
             return;
@@ -311,19 +395,16 @@ public class ProjectServiceImpl implements ProjectService {
             project.setKeyFeatures(new HashSet<>());
         }
 
-        Set<String> incoming = new HashSet<>(request.getKeyFeatures());
-
-        project.getKeyFeatures()
-                .removeIf(existing
-                        -> !incoming.contains(existing.getId().getKeyFeature()));
+        Set<String> incoming = new LinkedHashSet<>(request.getKeyFeatures());
+        Set<String> kept = new HashSet<>();
 
-        Set<String> existingNames = project.getKeyFeatures()
-                .stream()
-                .map(f -> f.getId().getKeyFeature())
-                .collect(Collectors.toSet());
+        project.getKeyFeatures().removeIf(existing -> {
+            String name = existing.getId().getKeyFeature();
+            return !incoming.contains(name) || !kept.add(name);
+        });
 
         incoming.stream()
-                .filter(name -> !existingNames.contains(name))
+                .filter(name -> !kept.contains(name))
                 .forEach(name
                         -> project.getKeyFeatures().add(
                         new ProjectKeyFeature(
@@ -361,19 +442,15 @@ public class ProjectServiceImpl implements ProjectService {
             project.setImages(new ArrayList<>());
         }
 
-        Set<String> incomingIds = request.getImages().stream()
-                .map(ImageUploadResponse::getPublicId)
-                .collect(Collectors.toSet());
+        Map<String, ImageUploadResponse> incoming = new LinkedHashMap<>();
+        request.getImages().forEach(img -> incoming.putIfAbsent(img.getPublicId(), img));
 
+        Set<String> kept = new HashSet<>();
         project.getImages()
-                .removeIf(img -> !incomingIds.contains(img.getPublicId()));
-
-        Set<String> existingIds = project.getImages().stream()
-                .map(ProjectImage::getPublicId)
-                .collect(Collectors.toSet());
+                .removeIf(img -> !incoming.containsKey(img.getPublicId()) || !kept.add(img.getPublicId()));
 
-        request.getImages().stream()
-                .filter(img -> !existingIds.contains(img.getPublicId()))
+        incoming.values().stream()
+                .filter(img -> !kept.contains(img.getPublicId()))
                 .forEach(img -> {
                     ProjectImage pi = new ProjectImage();
                     pi.setPublicId(img.getPublicId());
@@ -383,21 +460,49 @@ public class ProjectServiceImpl implements ProjectService {
                 });
     }
 
+    private void syncTechnologies(Project project, ProjectRequest request) {
+        if (request.getTechnologies() == null || request.getTechnologies().isEmpty()) {
+            return;
+        }
+
+        if (project.getTechnologies() == null) {
+            project.setTechnologies(new HashSet<>());
+        }
+
+        Set<Long> incoming = new HashSet<>(request.getTechnologies());
+        Set<Long> kept = new HashSet<>();
+
+        project.getTechnologies()
+                .removeIf(skill -> !incoming.contains(skill.getId()) || !kept.add(skill.getId()));
+
+        List<Long> added = request.getTechnologies().stream()
+                .filter(skillId -> !kept.contains(skillId))
+                .distinct()
+                .toList();
+        if (!added.isEmpty()) {
+            project.getTechnologies().addAll(findSkills(added));
+        }
+    }
+
     private void attachTechnologies(Project project, ProjectRequest request) {
         if (request.getTechnologies() == null || request.getTechnologies().isEmpty()) {
             return;
         }
 
-        List<Skill> skills = skillRepository.findAllById(request.getTechnologies());
+        project.setTechnologies(new HashSet<>(findSkills(request.getTechnologies())));
+    }
+
+    private List<Skill> findSkills(List<Long> ids) {
+        List<Skill> skills = skillRepository.findAllById(ids);
 
-        if (skills.size() != request.getTechnologies().size()) {
+        if (skills.size() != ids.size()) {
             List<Long> foundIds = skills.stream().map(Skill::getId).toList();
-            List<Long> invalid = request.getTechnologies().stream()
+            List<Long> invalid = ids.stream()
                     .filter(id -> !foundIds.contains(id))
                     .toList();
             throw new ResourceNotFoundException("Invalid technology IDs: " + invalid);
         }
 
-        project.setTechnologies(skills);
+        return skills;
     }
 }
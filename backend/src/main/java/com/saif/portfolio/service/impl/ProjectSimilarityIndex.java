@@ -0,0 +1,195 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.dto.RelatedProjectResponse;
+import com.saif.portfolio.model.ProjectCard;
+
+/**
+ * In-memory "related projects" index over the project_cards read model.
+ * Each project's technologies are held as a bitset and its top-K neighbours by
+ * Jaccard similarity are precomputed, so a lookup never touches the database.
+ * Writes replace single projects and only recompute the neighbour lists they can affect.
+ */
+@Component
+public class ProjectSimilarityIndex implements ProjectCardIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectSimilarityIndex.class);
+
+    private static final Comparator<Neighbour> BY_SCORE =
+            Comparator.comparingDouble(Neighbour::score).reversed()
+                    .thenComparing(Comparator.comparingInt(Neighbour::projectId).reversed());
+
+    private final int topK;
+
+    // Technology name -> bit position; only grows, guarded by this
+    private final Map<String, Integer> techBits = new HashMap<>();
+
+    private final Map<Integer, Node> nodes = new ConcurrentHashMap<>();
+    private final Map<String, Integer> slugs = new ConcurrentHashMap<>();
+
+    public ProjectSimilarityIndex(@Value("${app.related.top-k:6}") int topK) {
+        this.topK = topK;
+    }
+
+    // -------------------------------------------------
+    // READ
+    // -------------------------------------------------
+    public Optional<List<RelatedProjectResponse>> related(String slug) {
+        Integer id = slugs.get(slug.toLowerCase());
+        Node node = id != null ? nodes.get(id) : null;
+        if (node == null) {
+            return Optional.empty();
+        }
+
+        List<RelatedProjectResponse> result = new ArrayList<>(node.related().size());
+        for (Neighbour n : node.related()) {
+            Node other = nodes.get(n.projectId());
+            if (other != null) {
+                result.add(toResponse(other.card(), n.score()));
+            }
+        }
+        return Optional.of(result);
+    }
+
+    // -------------------------------------------------
+    // WRITE
+    // -------------------------------------------------
+    @Override
+    public synchronized void rebuild(Collection<ProjectCard> cards) {
+        nodes.clear();
+        slugs.clear();
+        for (ProjectCard card : cards) {
+            index(card);
+        }
+        for (Integer id : nodes.keySet()) {
+            recompute(id);
+        }
+        log.info("Project similarity index built for {} projects", nodes.size());
+    }
+
+    @Override
+    public synchronized void put(ProjectCard card) {
+        Node previous = nodes.get(card.getProjectId());
+        if (previous != null) {
+            slugs.remove(previous.card().getSlug().toLowerCase(), card.getProjectId());
+        }
+        Node node = index(card);
+        recompute(card.getProjectId());
+
+        // Only lists that held the project or that it could now enter need a full pass
+        for (Node other : nodes.values()) {
+            int otherId = other.card().getProjectId();
+            if (otherId == card.getProjectId()) {
+                continue;
+            }
+            List<Neighbour> related = other.related();
+            double score = jaccard(other.techs(), node.techs());
+            boolean entersList = score > 0
+                    && (related.size() < topK || score >= related.get(related.size() - 1).score());
+            if (entersList || contains(related, card.getProjectId())) {
+                recompute(otherId);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void remove(Integer projectId) {
+        Node removed = nodes.remove(projectId);
+        if (removed == null) {
+            return;
+        }
+        slugs.remove(removed.card().getSlug().toLowerCase(), projectId);
+        for (Node other : nodes.values()) {
+            if (contains(other.related(), projectId)) {
+                recompute(other.card().getProjectId());
+            }
+        }
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    private Node index(ProjectCard card) {
+        BitSet techs = new BitSet();
+        if (card.getTechnologies() != null) {
+            for (String tech : card.getTechnologies()) {
+                techs.set(techBits.computeIfAbsent(tech, t -> techBits.size()));
+            }
+        }
+        Node previous = nodes.get(card.getProjectId());
+        Node node = new Node(card, techs, previous != null ? previous.related() : List.of());
+        nodes.put(card.getProjectId(), node);
+        slugs.put(card.getSlug().toLowerCase(), card.getProjectId());
+        return node;
+    }
+
+    private void recompute(Integer projectId) {
+        Node node = nodes.get(projectId);
+        List<Neighbour> candidates = new ArrayList<>();
+        for (Node other : nodes.values()) {
+            int otherId = other.card().getProjectId();
+            if (otherId == projectId) {
+                continue;
+            }
+            double score = jaccard(node.techs(), other.techs());
+            if (score > 0) {
+                candidates.add(new Neighbour(otherId, score));
+            }
+        }
+        candidates.sort(BY_SCORE);
+        List<Neighbour> related = List.copyOf(candidates.subList(0, Math.min(topK, candidates.size())));
+        nodes.put(projectId, new Node(node.card(), node.techs(), related));
+    }
+
+    private static double jaccard(BitSet a, BitSet b) {
+        BitSet shared = (BitSet) a.clone();
+        shared.and(b);
+        int intersection = shared.cardinality();
+        if (intersection == 0) {
+            return 0;
+        }
+        return (double) intersection / (a.cardinality() + b.cardinality() - intersection);
+    }
+
+    private static boolean contains(List<Neighbour> related, int projectId) {
+        for (Neighbour n : related) {
+            if (n.projectId() == projectId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RelatedProjectResponse toResponse(ProjectCard card, double score) {
+        return new RelatedProjectResponse(
+                card.getProjectId(),
+                card.getTitle(),
+                card.getSlug(),
+                card.getDescription(),
+                card.getType() != null ? card.getType().name() : null,
+                card.getImageUrl(),
+                card.getTechnologies(),
+                score
+        );
+    }
+
+    private record Node(ProjectCard card, BitSet techs, List<Neighbour> related) {
+    }
+
+    private record Neighbour(int projectId, double score) {
+    }
+}
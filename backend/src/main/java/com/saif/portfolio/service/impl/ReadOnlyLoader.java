@@ -0,0 +1,19 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs an entity cache loader in its own read-only transaction, so only a miss
+ * opens a transaction and checks out a connection; hits are served without one.
+ */
+@Component
+public class ReadOnlyLoader {
+
+    @Transactional(readOnly = true)
+    public <T> T load(Supplier<T> loader) {
+        return loader.get();
+    }
+}
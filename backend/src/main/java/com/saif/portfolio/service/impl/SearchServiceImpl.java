@@ -0,0 +1,124 @@
+package com.saif.portfolio.service.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import com.saif.portfolio.dto.SearchResultResponse;
+import com.saif.portfolio.service.SearchService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Full-text search over blogs and project cards using their generated
+ * search_vector columns. Matching and ranking run on the GIN-indexed vectors only;
+ * titles, images and snippets are joined in for the requested page alone, and
+ * snippets come from the summary / description so blog content is never read.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private static final String SEARCH_SQL = """
+            WITH q AS (
+                SELECT websearch_to_tsquery('english', :query) AS query
+            ), hits AS (
+                SELECT 'blog' AS type, b.id, ts_rank(b.search_vector, q.query) AS rank
+                FROM blogs b, q
+                WHERE b.search_vector @@ q.query
+                UNION ALL
+                SELECT 'project', c.project_id, ts_rank(c.search_vector, q.query)
+                FROM project_cards c, q
+                WHERE c.search_vector @@ q.query
+            ), page AS (
+                SELECT type, id, rank, count(*) OVER () AS total
+                FROM hits
+                ORDER BY rank DESC, type, id DESC
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT p.type, p.id, p.rank, p.total,
+                   coalesce(b.title, c.title) AS title,
+                   coalesce(b.slug, c.slug) AS slug,
+                   coalesce(b.category, c.type) AS category,
+                   coalesce(bi.url, c.image_url) AS image_url,
+                   ts_headline('english', coalesce(b.summary, c.description, ''), q.query,
+                               'MaxFragments=2, MaxWords=30, MinWords=10, StartSel=<mark>, StopSel=</mark>') AS snippet
+            FROM page p
+            CROSS JOIN q
+            LEFT JOIN blogs b ON p.type = 'blog' AND b.id = p.id
+            LEFT JOIN blog_images bi ON bi.blog_id = b.id
+            LEFT JOIN project_cards c ON p.type = 'project' AND c.project_id = p.id
+            ORDER BY p.rank DESC, p.type, p.id DESC
+            """;
+
+    // Index-only match count for a page past the end, where the window total has no row to ride on
+    private static final String COUNT_SQL = """
+            WITH q AS (
+                SELECT websearch_to_tsquery('english', :query) AS query
+            )
+            SELECT (SELECT count(*) FROM blogs b, q WHERE b.search_vector @@ q.query)
+                 + (SELECT count(*) FROM project_cards c, q WHERE c.search_vector @@ q.query)
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Override
+    public Page<SearchResultResponse> search(String query, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (query == null || query.isBlank()) {
+            return Page.empty(pageable);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query.trim())
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        long[] total = {0};
+        List<SearchResultResponse> results = namedJdbcTemplate.query(SEARCH_SQL, params,
+                (rs, rowNum) -> {
+                    total[0] = rs.getLong("total");
+                    return toResult(rs);
+                });
+
+        // Past the last page: report the real hit count so clients can page back
+        if (results.isEmpty() && pageable.getOffset() > 0) {
+            Long count = namedJdbcTemplate.queryForObject(COUNT_SQL, params, Long.class);
+            total[0] = count == null ? 0 : count;
+        }
+
+        return new PageImpl<>(results, pageable, total[0]);
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    private static SearchResultResponse toResult(ResultSet rs) throws SQLException {
+        return new SearchResultResponse(
+                rs.getString("type"),
+                rs.getInt("id"),
+                rs.getString("title"),
+                rs.getString("slug"),
+                rs.getString("category"),
+                rs.getString("image_url"),
+                snippet(rs.getString("snippet")),
+                rs.getDouble("rank")
+        );
+    }
+
+    // ts_headline drops markup tags but not stray <, > or &; escape, then restore the highlights
+    private static String snippet(String headline) {
+        return HtmlUtils.htmlEscape(headline)
+                .replace("&lt;mark&gt;", "<mark>")
+                .replace("&lt;/mark&gt;", "</mark>");
+    }
+}
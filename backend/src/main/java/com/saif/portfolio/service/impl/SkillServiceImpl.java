@@ -8,7 +8,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.saif.portfolio.exception.ResourceNotFoundException;
+import com.saif.portfolio.model.Project;
 import com.saif.portfolio.model.Skill;
+import com.saif.portfolio.repository.ProjectRepository;
 import com.saif.portfolio.repository.SkillRepository;
 import com.saif.portfolio.service.SkillService;
 
@@ -19,6 +21,9 @@ import lombok.RequiredArgsConstructor;
 public class SkillServiceImpl implements SkillService {
 
     private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectCardWriter projectCardWriter;
+    private final SuggestionIndex suggestionIndex;
 
     // ----------------- READ METHODS WITH CACHE -----------------
 
@@ -62,11 +67,13 @@ public class SkillServiceImpl implements SkillService {
         if (skillRepository.existsByNameIgnoreCase(skill.getName())) {
             throw new IllegalArgumentException("Skill with name '" + skill.getName() + "' already exists");
         }
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        suggestionIndex.skillChanged(saved);
+        return saved;
     }
 
     @Transactional
-    @CacheEvict(value = {"allSkills", "skillsByCategory"}, allEntries = true)
+    @CacheEvict(value = {"allSkills", "skillsByCategory", "simpleProjects", "projectResponses"}, allEntries = true)
     @Override
     public Skill updateSkill(Long id, Skill skillData) {
         if (id == null) {
@@ -90,13 +97,18 @@ public class SkillServiceImpl implements SkillService {
         skill.setPriority(skillData.getPriority());
         skill.setIconUrl(skillData.getIconUrl());
 
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        suggestionIndex.skillChanged(saved);
+
+        // Project cards carry skill names, so refresh every card using this skill
+        projectCardWriter.upsertAll(projectRepository.findByTechnologies_Id(id));
+        return saved;
     }
 
     // ----------------- DELETE -----------------
 
     @Transactional
-    @CacheEvict(value = {"allSkills", "skillsByCategory"}, allEntries = true)
+    @CacheEvict(value = {"allSkills", "skillsByCategory", "simpleProjects", "projectResponses"}, allEntries = true)
     @Override
     public Skill deleteSkill(Long id) {
         if (id == null) {
@@ -104,7 +116,14 @@ public class SkillServiceImpl implements SkillService {
         }
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + id));
+
+        // Detach from the owning side first so project_technologies rows go with it
+        List<Project> projects = projectRepository.findByTechnologies_Id(id);
+        projects.forEach(p -> p.getTechnologies().removeIf(t -> id.equals(t.getId())));
+
         skillRepository.deleteById(id);
+        projectCardWriter.upsertAll(projects);
+        suggestionIndex.skillRemoved(id);
         return skill;
     }
 }
@@ -0,0 +1,26 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.saif.portfolio.dto.SuggestionResponse;
+import com.saif.portfolio.service.SuggestService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SuggestServiceImpl implements SuggestService {
+
+    private final SuggestionIndex suggestionIndex;
+
+    // Served from memory only; typeahead fires on every keystroke
+    @Override
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        return suggestionIndex.suggest(prefix, Math.min(limit, SuggestionIndex.MAX_RESULTS));
+    }
+}
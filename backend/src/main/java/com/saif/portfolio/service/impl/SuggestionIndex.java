@@ -0,0 +1,362 @@
+package com.saif.portfolio.service.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.saif.portfolio.cache.CacheInvalidationBus;
+import com.saif.portfolio.dto.SuggestionResponse;
+import com.saif.portfolio.model.ProjectCard;
+import com.saif.portfolio.model.Skill;
+import com.saif.portfolio.repository.BlogRepository;
+import com.saif.portfolio.repository.SkillRepository;
+import com.saif.portfolio.util.TransactionUtil;
+
+/**
+ * Case-folded prefix trie behind /api/suggest, holding skill names, project and blog
+ * titles and blog categories. Every word start of a label is a key, so "cach" finds
+ * "Spring caching". Each node caches its best {@link #MAX_RESULTS} entries, dropped along
+ * the path on writes, so a lookup is one walk down the trie and never a query.
+ * Projects arrive through {@link ProjectCardIndex} and blogs through {@link BlogIndexWriter};
+ * skill changes are applied after commit and broadcast so other nodes reload the skill.
+ */
+@Component
+public class SuggestionIndex implements ProjectCardIndex, CacheInvalidationBus.Subscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionIndex.class);
+
+    public static final int MAX_RESULTS = 10;
+
+    // Long titles only need their leading characters to be typeable
+    private static final int MAX_KEY_LENGTH = 48;
+
+    private static final String SKILL_TOPIC = "skills";
+
+    // Priority first (skills 1-3, featured projects 1, other projects and blogs 2, categories 3),
+    // then kind, then newest first
+    private static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::priority)
+            .thenComparing(Entry::kind)
+            .thenComparing(Comparator.comparingLong(Entry::recency).reversed())
+            .thenComparing(e -> e.suggestion().getLabel(), String.CASE_INSENSITIVE_ORDER);
+
+    private final BlogRepository blogRepository;
+    private final SkillRepository skillRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<String, Entry> entries = new HashMap<>(); // 🔹 "blog:12" -> entry
+    private final Map<Integer, String> blogCategories = new HashMap<>();
+    private final Map<String, Integer> categoryCounts = new HashMap<>();
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public SuggestionIndex(BlogRepository blogRepository, SkillRepository skillRepository,
+                           CacheInvalidationBus cacheInvalidationBus) {
+        this.blogRepository = blogRepository;
+        this.skillRepository = skillRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.subscribe(SKILL_TOPIC, this);
+    }
+
+    // -------------------------------------------------
+    // READ
+    // -------------------------------------------------
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return top(node).stream().limit(limit).map(Entry::suggestion).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------
+    // LOAD (blogs and skills; projects come from ProjectCardWriter)
+    // -------------------------------------------------
+
+    // Also used to resync, so whatever blogs and skills were held before are replaced
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<Object[]> blogs = blogRepository.findSuggestionRows();
+        List<Skill> skills = skillRepository.findAll();
+
+        lock.writeLock().lock();
+        try {
+            entries.values().stream()
+                    .filter(e -> e.kind() != Kind.PROJECT)
+                    .toList()
+                    .forEach(this::removeEntry);
+            blogCategories.clear();
+            categoryCounts.clear();
+
+            for (Object[] row : blogs) {
+                addBlog((Integer) row[0], (String) row[1], (String) row[2], (String) row[3], (Instant) row[4]);
+            }
+            skills.forEach(this::addSkill);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Suggestion index loaded {} blogs and {} skills", blogs.size(), skills.size());
+    }
+
+    // -------------------------------------------------
+    // WRITE (callers invoke these after commit)
+    // -------------------------------------------------
+    @Override
+    public void rebuild(Collection<ProjectCard> cards) {
+        lock.writeLock().lock();
+        try {
+            entries.values().stream()
+                    .filter(e -> e.kind() == Kind.PROJECT)
+                    .toList()
+                    .forEach(this::removeEntry);
+            cards.forEach(this::addProject);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(ProjectCard card) {
+        lock.writeLock().lock();
+        try {
+            addProject(card);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Integer projectId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(entries.get("project:" + projectId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putBlog(Integer id, String title, String slug, String category, Instant createdAt) {
+        lock.writeLock().lock();
+        try {
+            dropBlog(id);
+            addBlog(id, title, slug, category, createdAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeBlog(Integer id) {
+        lock.writeLock().lock();
+        try {
+            dropBlog(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putSkill(Skill skill) {
+        lock.writeLock().lock();
+        try {
+            addSkill(skill);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeSkill(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(entries.get("skill:" + id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------
+    // SKILLS (callers invoke these inside the writing transaction)
+    // -------------------------------------------------
+    public void skillChanged(Skill skill) {
+        cacheInvalidationBus.publish(SKILL_TOPIC, String.valueOf(skill.getId()));
+        TransactionUtil.afterCommit(() -> putSkill(skill));
+    }
+
+    public void skillRemoved(Long id) {
+        cacheInvalidationBus.publish(SKILL_TOPIC, String.valueOf(id));
+        TransactionUtil.afterCommit(() -> removeSkill(id));
+    }
+
+    // A skill another node changed; gone from the table means deleted
+    @Override
+    public void onMessage(String message) {
+        Long id = Long.valueOf(message);
+        skillRepository.findById(id).ifPresentOrElse(this::putSkill, () -> removeSkill(id));
+    }
+
+    @Override
+    public void onResync() {
+        load();
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS (write lock held)
+    // -------------------------------------------------
+    private void addProject(ProjectCard card) {
+        // Project ids follow creation order, which is what the card grid sorts by as well
+        putEntry(new Entry("project:" + card.getProjectId(), Kind.PROJECT, card.isFeatured() ? 1 : 2,
+                card.getProjectId(), new SuggestionResponse("project", card.getTitle(), card.getSlug())));
+    }
+
+    private void addSkill(Skill skill) {
+        putEntry(new Entry("skill:" + skill.getId(), Kind.SKILL, skill.getPriority(), 0,
+                new SuggestionResponse("skill", skill.getName(), null)));
+    }
+
+    private void addBlog(Integer id, String title, String slug, String category, Instant createdAt) {
+        putEntry(new Entry("blog:" + id, Kind.BLOG, 2, createdAt != null ? createdAt.toEpochMilli() : 0,
+                new SuggestionResponse("blog", title, slug)));
+
+        String key = category.toLowerCase(Locale.ROOT);
+        blogCategories.put(id, key);
+        if (categoryCounts.merge(key, 1, Integer::sum) == 1) {
+            putEntry(new Entry("category:" + key, Kind.CATEGORY, 3, 0,
+                    new SuggestionResponse("category", key, key)));
+        }
+    }
+
+    private void dropBlog(Integer id) {
+        removeEntry(entries.get("blog:" + id));
+
+        String category = blogCategories.remove(id);
+        if (category != null && categoryCounts.merge(category, -1, Integer::sum) == 0) {
+            categoryCounts.remove(category);
+            removeEntry(entries.get("category:" + category));
+        }
+    }
+
+    private void putEntry(Entry entry) {
+        removeEntry(entries.get(entry.id()));
+        if (entry.suggestion().getLabel() == null) {
+            return;
+        }
+        entries.put(entry.id(), entry);
+        for (String key : keys(entry.suggestion().getLabel())) {
+            Node node = root;
+            node.top = null;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.top = null;
+            }
+            node.entries.add(entry);
+        }
+    }
+
+    private void removeEntry(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        entries.remove(entry.id());
+        for (String key : keys(entry.suggestion().getLabel())) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                path.add(node);
+            }
+            if (node == null) {
+                continue;
+            }
+            node.entries.remove(entry);
+
+            // Invalidate the path and prune nodes left with nothing below them
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node current = path.get(i);
+                current.top = null;
+                if (i > 0 && current.entries.isEmpty() && current.children.isEmpty()) {
+                    path.get(i - 1).children.remove(key.charAt(i - 1));
+                }
+            }
+        }
+    }
+
+    // Best entries at or below the node; recomputed from the children's lists when invalidated.
+    // Concurrent readers may both fill the cache, which is harmless: the result is the same.
+    private List<Entry> top(Node node) {
+        List<Entry> cached = node.top;
+        if (cached != null) {
+            return cached;
+        }
+        List<Entry> candidates = new ArrayList<>(node.entries);
+        for (Node child : node.children.values()) {
+            candidates.addAll(top(child));
+        }
+        List<Entry> result = candidates.stream()
+                .sorted(RANKING)
+                .distinct()
+                .limit(MAX_RESULTS)
+                .toList();
+        node.top = result;
+        return result;
+    }
+
+    // Every word start of the label, so multi-word titles match on any word
+    private static Set<String> keys(String label) {
+        String normalized = normalize(label);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            boolean wordStart = i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1));
+            if (wordStart && Character.isLetterOrDigit(normalized.charAt(i))) {
+                keys.add(normalized.substring(i, Math.min(normalized.length(), i + MAX_KEY_LENGTH)));
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private enum Kind {
+        SKILL, PROJECT, BLOG, CATEGORY
+    }
+
+    private record Entry(String id, Kind kind, int priority, long recency, SuggestionResponse suggestion) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Entry> entries = new HashSet<>();
+        private volatile List<Entry> top;
+    }
+}
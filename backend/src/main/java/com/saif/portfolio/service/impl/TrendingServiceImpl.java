@@ -0,0 +1,371 @@
+package com.saif.portfolio.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saif.portfolio.dto.TrendingItemResponse;
+import com.saif.portfolio.dto.TrendingResponse;
+import com.saif.portfolio.model.TrendingSnapshot;
+import com.saif.portfolio.repository.TrendingSnapshotRepository;
+import com.saif.portfolio.service.TrendingService;
+import com.saif.portfolio.service.ViewCountService;
+import com.saif.portfolio.util.CountMinSketch;
+import com.saif.portfolio.util.HyperLogLog;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Trending blogs and projects in fixed memory.
+ * Views go into a count-min sketch with forward exponential decay: a view at time t weighs
+ * 2^((t - landmark) / halfLife), so older views fade without ever touching stored counts,
+ * and the grid is rescaled once the weights grow large. The heaviest {@code capacity}
+ * blogs and projects are kept as candidates, each with a HyperLogLog of visitor fingerprints.
+ *
+ * All nodes share one trending_snapshots row. Periodically and on shutdown each node merges
+ * the views it recorded since its last snapshot into that row under a row lock (sketches
+ * add, visitor counters union) and adopts the merged result, so every node converges on
+ * the views of all of them.
+ */
+@Service
+public class TrendingServiceImpl implements TrendingService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingServiceImpl.class);
+
+    private static final String SNAPSHOT_ID = "trending";
+    private static final int SNAPSHOT_FORMAT = 1;
+
+    // Rescale before 2^exponent weights lose precision against older counts
+    private static final double MAX_EXPONENT = 32;
+
+    private final TrendingSnapshotRepository snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double halfLifeMillis;
+    private final int capacity;
+    private final int depth;
+    private final int width;
+    private final Clock clock;
+
+    private State state; // 🔹 shared row as of the last snapshot plus this node's views since
+    private CountMinSketch unsynced; // 🔹 this node's views not yet in the shared row, same landmark
+
+    @Autowired
+    public TrendingServiceImpl(TrendingSnapshotRepository snapshotRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.trending.half-life-hours:6}") double halfLifeHours,
+                               @Value("${app.trending.capacity:200}") int capacity,
+                               @Value("${app.trending.sketch-depth:4}") int depth,
+                               @Value("${app.trending.sketch-width:2048}") int width) {
+        this(snapshotRepository, transactionTemplate, halfLifeHours, capacity, depth, width, Clock.systemUTC());
+    }
+
+    // Tests pass a clock they can move
+    TrendingServiceImpl(TrendingSnapshotRepository snapshotRepository, TransactionTemplate transactionTemplate,
+                        double halfLifeHours, int capacity, int depth, int width, Clock clock) {
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.halfLifeMillis = halfLifeHours * 3_600_000;
+        this.capacity = capacity;
+        this.depth = depth;
+        this.width = width;
+        this.clock = clock;
+        this.state = new State(clock.millis(), new CountMinSketch(depth, width));
+        this.unsynced = new CountMinSketch(depth, width);
+    }
+
+    // -------------------------------------------------
+    // RECORD
+    // -------------------------------------------------
+    @Override
+    public synchronized void record(String contentType, String slug, String title, long visitorHash) {
+        long now = clock.millis();
+        rescaleIfNeeded(now);
+
+        String key = contentType + "/" + slug.toLowerCase();
+        long hash = HyperLogLog.hash64(key);
+        double weight = Math.pow(2, (now - state.landmark) / halfLifeMillis);
+        unsynced.add(hash, weight);
+        double estimate = state.sketch.add(hash, weight);
+
+        Map<String, Candidate> candidates = state.candidates;
+        Candidate candidate = candidates.get(key);
+        if (candidate == null) {
+            // Capacity is per content type so busy blogs cannot push every project out
+            List<Candidate> sameType = candidates.values().stream()
+                    .filter(c -> c.type.equals(contentType))
+                    .toList();
+            if (sameType.size() >= capacity) {
+                Candidate weakest = sameType.stream()
+                        .min(Comparator.comparingDouble(c -> c.score))
+                        .orElseThrow();
+                if (estimate <= weakest.score) {
+                    return;
+                }
+                candidates.remove(weakest.key());
+            }
+            candidate = new Candidate(contentType, slug.toLowerCase(), new HyperLogLog());
+            candidates.put(key, candidate);
+        }
+        candidate.score = estimate;
+        if (title != null) {
+            candidate.title = title;
+        }
+        candidate.visitors.add(visitorHash);
+    }
+
+    // -------------------------------------------------
+    // READ
+    // -------------------------------------------------
+    @Override
+    public synchronized TrendingResponse getTrending(boolean byVisitors, int limit) {
+        double decay = decay(clock.millis() - state.landmark);
+        Comparator<TrendingItemResponse> order = byVisitors
+                ? Comparator.comparingLong(TrendingItemResponse::getUniqueVisitors).reversed()
+                        .thenComparing(Comparator.comparingDouble(TrendingItemResponse::getScore).reversed())
+                : Comparator.comparingDouble(TrendingItemResponse::getScore).reversed();
+
+        List<TrendingItemResponse> items = state.candidates.values().stream()
+                .map(c -> new TrendingItemResponse(c.type, c.slug, c.title, c.score * decay, c.visitors.cardinality()))
+                .sorted(order)
+                .toList();
+
+        return new TrendingResponse(
+                items.stream().filter(i -> i.getType().equals(ViewCountService.BLOG)).limit(limit).toList(),
+                items.stream().filter(i -> i.getType().equals(ViewCountService.PROJECT)).limit(limit).toList()
+        );
+    }
+
+    // -------------------------------------------------
+    // SNAPSHOT
+    // -------------------------------------------------
+
+    // The database work runs without the lock, so recording is never blocked on it
+    @Override
+    public void snapshot() {
+        long cutLandmark;
+        CountMinSketch delta;
+        List<Candidate> tracked;
+        synchronized (this) {
+            cutLandmark = state.landmark;
+            delta = unsynced;
+            unsynced = new CountMinSketch(depth, width);
+            tracked = state.candidates.values().stream().map(Candidate::copy).toList();
+        }
+
+        State merged;
+        try {
+            // Two nodes creating the very first row race on its insert; the loser retries next time
+            merged = transactionTemplate.execute(status -> {
+                State shared = snapshotRepository.findLockedById(SNAPSHOT_ID)
+                        .map(this::readOrNull)
+                        .orElseGet(() -> new State(cutLandmark, new CountMinSketch(depth, width)));
+                merge(shared, cutLandmark, delta, tracked);
+                snapshotRepository.save(new TrendingSnapshot(SNAPSHOT_ID, serialize(shared), clock.instant()));
+                return shared;
+            });
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                unsynced.merge(delta, decay(state.landmark - cutLandmark));
+            }
+            log.warn("Trending snapshot failed, its views are kept for the next one: {}", ex.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            // Views recorded while the row was merged are in unsynced and stay there for the next snapshot
+            long localLandmark = state.landmark;
+            merge(merged, localLandmark, unsynced, state.candidates.values());
+            unsynced.scale(decay(merged.landmark - localLandmark));
+            state = merged;
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        snapshotRepository.findById(SNAPSHOT_ID).ifPresent(snapshot -> {
+            State restored = readOrNull(snapshot);
+            if (restored == null) {
+                return;
+            }
+            synchronized (this) {
+                merge(restored, state.landmark, unsynced, state.candidates.values());
+                unsynced.scale(decay(restored.landmark - state.landmark));
+                state = restored;
+            }
+            log.info("Trending restored from snapshot taken at {} ({} items)",
+                    snapshot.getTakenAt(), restored.candidates.size());
+        });
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+
+    // Lock held
+    private void rescaleIfNeeded(long now) {
+        double exponent = (now - state.landmark) / halfLifeMillis;
+        if (exponent < MAX_EXPONENT) {
+            return;
+        }
+        double factor = Math.pow(2, -exponent);
+        state.sketch.scale(factor);
+        unsynced.scale(factor);
+        state.candidates.values().forEach(c -> c.score *= factor);
+        state.landmark = now;
+    }
+
+    // Adds views counted against another landmark into the target, aligned on the later
+    // landmark; candidates are unioned, rescored from the merged counts and trimmed
+    private void merge(State target, long landmark, CountMinSketch views, Collection<Candidate> tracked) {
+        double factor = 1;
+        if (landmark > target.landmark) {
+            target.sketch.scale(decay(landmark - target.landmark));
+            target.landmark = landmark;
+        } else {
+            factor = decay(target.landmark - landmark);
+        }
+        target.sketch.merge(views, factor);
+
+        for (Candidate c : tracked) {
+            Candidate existing = target.candidates.get(c.key());
+            if (existing == null) {
+                target.candidates.put(c.key(), c.copy());
+            } else {
+                existing.visitors.merge(c.visitors);
+                if (c.title != null) {
+                    existing.title = c.title;
+                }
+            }
+        }
+        target.candidates.values().forEach(c -> c.score = target.sketch.estimate(HyperLogLog.hash64(c.key())));
+
+        for (String type : List.of(ViewCountService.BLOG, ViewCountService.PROJECT)) {
+            target.candidates.values().stream()
+                    .filter(c -> c.type.equals(type))
+                    .sorted(Comparator.comparingDouble((Candidate c) -> c.score).reversed())
+                    .skip(capacity)
+                    .toList()
+                    .forEach(c -> target.candidates.remove(c.key()));
+        }
+    }
+
+    // Weight of a view made `millis` earlier relative to now
+    private double decay(long millis) {
+        return Math.pow(2, -millis / halfLifeMillis);
+    }
+
+    private State readOrNull(TrendingSnapshot snapshot) {
+        try {
+            return deserialize(snapshot.getData());
+        } catch (IOException | IllegalStateException ex) {
+            log.warn("Ignoring unreadable trending snapshot: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] serialize(State snapshot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SNAPSHOT_FORMAT);
+            out.writeLong(snapshot.landmark);
+            out.writeInt(snapshot.sketch.depth());
+            out.writeInt(snapshot.sketch.width());
+            snapshot.sketch.write(out);
+            out.writeInt(snapshot.candidates.size());
+            for (Candidate c : snapshot.candidates.values()) {
+                out.writeUTF(c.type);
+                out.writeUTF(c.slug);
+                out.writeUTF(c.title != null ? c.title : "");
+                out.writeDouble(c.score);
+                c.visitors.write(out);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private State deserialize(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != SNAPSHOT_FORMAT) {
+                throw new IllegalStateException("unknown snapshot format");
+            }
+            long savedLandmark = in.readLong();
+            if (in.readInt() != depth || in.readInt() != width) {
+                throw new IllegalStateException("sketch dimensions changed");
+            }
+            State snapshot = new State(savedLandmark, new CountMinSketch(depth, width));
+            snapshot.sketch.read(in);
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Candidate c = new Candidate(in.readUTF(), in.readUTF(), null);
+                String title = in.readUTF();
+                c.title = title.isEmpty() ? null : title;
+                c.score = in.readDouble();
+                c.visitors = HyperLogLog.read(in);
+                snapshot.candidates.put(c.key(), c);
+            }
+            return snapshot;
+        }
+    }
+
+    private static final class State {
+        private long landmark;
+        private final CountMinSketch sketch;
+        private final Map<String, Candidate> candidates = new HashMap<>(); // 🔹 "blog/slug" -> candidate
+
+        private State(long landmark, CountMinSketch sketch) {
+            this.landmark = landmark;
+            this.sketch = sketch;
+        }
+    }
+
+    private static final class Candidate {
+        private final String type;
+        private final String slug;
+        private String title;
+        private double score; // 🔹 sketch estimate in landmark-relative weight
+        private HyperLogLog visitors;
+
+        private Candidate(String type, String slug, HyperLogLog visitors) {
+            this.type = type;
+            this.slug = slug;
+            this.visitors = visitors;
+        }
+
+        private String key() {
+            return type + "/" + slug;
+        }
+
+        private Candidate copy() {
+            Candidate copy = new Candidate(type, slug, visitors.copy());
+            copy.title = title;
+            copy.score = score;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.saif.portfolio.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saif.portfolio.model.ContentView;
+import com.saif.portfolio.repository.ContentViewRepository;
+import com.saif.portfolio.service.ViewCountService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind view counters. Each view bumps a striped {@link LongAdder} in memory;
+ * the scheduled flush turns everything pending into one batched upsert on content_views.
+ * Callers only record slugs that resolved to real content, and the number of pending
+ * slugs is capped on top of that, so memory stays bounded whatever is requested.
+ * Every flush also re-reads the totals written since the previous one, by this node or
+ * any other, so the counts served converge across nodes.
+ */
+@Service
+public class ViewCountServiceImpl implements ViewCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewCountServiceImpl.class);
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO content_views (content_type, slug, views, updated_at)
+            VALUES (?, ?, ?, now())
+            ON CONFLICT (content_type, slug)
+            DO UPDATE SET views = content_views.views + EXCLUDED.views, updated_at = now()
+            """;
+
+    // Re-read window overlap: covers a sync that raced a peer's flush commit
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
+    private final ContentViewRepository contentViewRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final int maxPendingSlugs;
+
+    private final Map<Key, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Key, Long> flushed = new ConcurrentHashMap<>(); // 🔹 totals already in content_views
+    private final AtomicLong dropped = new AtomicLong();
+    private long lastSync = System.nanoTime(); // 🔹 when the last successful sync started
+
+    public ViewCountServiceImpl(ContentViewRepository contentViewRepository,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                CacheManager cacheManager,
+                                @Value("${app.views.max-pending-slugs:10000}") int maxPendingSlugs) {
+        this.contentViewRepository = contentViewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.maxPendingSlugs = maxPendingSlugs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadTotals() {
+        long started = System.nanoTime();
+        adopt(contentViewRepository.findAll());
+        lastSync = started;
+    }
+
+    // -------------------------------------------------
+    // RECORD
+    // -------------------------------------------------
+    @Override
+    public long recordView(String contentType, String slug) {
+        Key key = new Key(contentType, slug.toLowerCase());
+        LongAdder adder = pending.get(key);
+        if (adder == null) {
+            if (pending.size() >= maxPendingSlugs) {
+                dropped.incrementAndGet();
+                return flushed.getOrDefault(key, 0L);
+            }
+            adder = pending.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+        return flushed.getOrDefault(key, 0L) + adder.sum();
+    }
+
+    // -------------------------------------------------
+    // FLUSH (scheduled and on shutdown)
+    // -------------------------------------------------
+    @Override
+    public synchronized void flush() {
+        List<Key> keys = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<Key, LongAdder> entry : pending.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+            if (views == 0) {
+                // Idle since the last flush; frees its slot under the cap.
+                // A view landing in the same instant may be lost, which a counter can afford.
+                pending.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            keys.add(entry.getKey());
+            rows.add(new Object[] {entry.getKey().contentType(), entry.getKey().slug(), views});
+        }
+
+        long droppedViews = dropped.getAndSet(0);
+        if (droppedViews > 0) {
+            log.warn("Dropped {} views: more than {} slugs pending", droppedViews, maxPendingSlugs);
+        }
+        if (!rows.isEmpty()) {
+            try {
+                // All or nothing, so counts put back below were never written
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, rows));
+            } catch (DataAccessException | TransactionException ex) {
+                // Put the counts back so the next flush retries them
+                for (int i = 0; i < keys.size(); i++) {
+                    pending.computeIfAbsent(keys.get(i), k -> new LongAdder()).add((long) rows.get(i)[2]);
+                }
+                log.warn("View count flush failed, {} slugs kept for retry: {}", keys.size(), ex.getMessage());
+                return;
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                flushed.merge(keys.get(i), (long) rows.get(i)[2], Long::sum);
+            }
+            Cache dashboard = cacheManager.getCache("dashboardStats");
+            if (dashboard != null) {
+                dashboard.clear();
+            }
+            log.debug("Flushed views for {} slugs", keys.size());
+        }
+
+        // Even with nothing pending here: other nodes keep flushing their views
+        syncTotals();
+    }
+
+    // Graceful shutdown: runs before the DataSource is closed
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Totals replace what was known: they already include this node's flushed views.
+    // Lock held, so no flush of this node lands between the read and the replace
+    private void syncTotals() {
+        long started = System.nanoTime();
+        long window = (started - lastSync) / 1_000_000_000 + SYNC_OVERLAP_SECONDS;
+        try {
+            adopt(contentViewRepository.findUpdatedWithin(window));
+            lastSync = started;
+        } catch (DataAccessException ex) {
+            log.warn("View totals not synced, retrying on the next flush: {}", ex.getMessage());
+        }
+    }
+
+    private void adopt(List<ContentView> views) {
+        for (ContentView view : views) {
+            flushed.put(new Key(view.getId().getContentType(), view.getId().getSlug()), view.getViews());
+        }
+    }
+
+    private record Key(String contentType, String slug) {
+    }
+}
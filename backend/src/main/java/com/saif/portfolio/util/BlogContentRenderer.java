@@ -0,0 +1,240 @@
+package com.saif.portfolio.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.model.Blog;
+import com.saif.portfolio.model.BlogSection;
+
+/**
+ * Renders blog content to sanitized HTML once, at write time, and splits it into
+ * heading-delimited sections. The admin editor (TipTap) saves HTML, which is only
+ * sanitized; anything else is treated as Markdown and rendered first. Bump {@link #VERSION} whenever the output changes
+ * (parser options, extensions, safelist, splitting) and the startup re-render job
+ * will refresh every stored post.
+ */
+@Component
+public class BlogContentRenderer {
+
+    public static final int VERSION = 4; // 2: sections, 3: editor HTML kept as HTML, 4: heading ids
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create());
+
+    // Relaxed tags plus heading ids, code language classes for highlighting and
+    // what the editor emits: text-align styles, rules, strikes, link targets and
+    // base64 images. Attribute values jsoup cannot check are narrowed in restrict()
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addTags("hr", "s")
+            .addAttributes("p", "style")
+            .addAttributes("h1", "id", "style")
+            .addAttributes("h2", "id", "style")
+            .addAttributes("h3", "id", "style")
+            .addAttributes("h4", "id", "style")
+            .addAttributes("h5", "id", "style")
+            .addAttributes("h6", "id", "style")
+            .addAttributes("pre", "class")
+            .addAttributes("code", "class")
+            .addAttributes("a", "target")
+            .addProtocols("a", "href", "#")
+            .addProtocols("img", "src", "data")
+            .addEnforcedAttribute("a", "rel", "nofollow noopener");
+
+    private static final Pattern TEXT_ALIGN =
+            Pattern.compile("(?:^|;)\\s*text-align\\s*:\\s*(left|center|right|justify)\\s*(?:;|$)",
+                    Pattern.CASE_INSENSITIVE);
+    private static final Pattern NOT_SLUG = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern EDGE_DASHES = Pattern.compile("^-+|-+$");
+    private static final Pattern LANGUAGE_CLASS = Pattern.compile("language-[\\w#+.-]+");
+    private static final Set<String> DATA_IMAGE_TYPES = Set.of(
+            "data:image/png;", "data:image/jpeg;", "data:image/gif;", "data:image/webp;");
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder().extensions(EXTENSIONS).build();
+
+    public String render(String content) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+        // CommonMark would end an HTML block at the first blank line (e.g. inside a code
+        // block) and escape everything after it, so editor HTML never goes through it
+        String html = isHtml(content) ? content : renderer.render(parser.parse(content));
+        Document clean = new Cleaner(SAFELIST).clean(Jsoup.parseBodyFragment(html));
+        restrict(clean);
+        anchorHeadings(clean);
+        clean.outputSettings().prettyPrint(false);
+        return clean.body().html();
+    }
+
+    public String hash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest((markdown == null ? "" : markdown).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    // Re-renders only when the source or the renderer changed; returns whether it did.
+    // Hash and version are always written together with the HTML, so the (lazy) HTML
+    // column itself is never read just to decide
+    public boolean apply(Blog blog) {
+        String hash = hash(blog.getContent());
+        if (hash.equals(blog.getContentHash())
+                && Integer.valueOf(VERSION).equals(blog.getRenderVersion())) {
+            return false;
+        }
+        blog.setContentHtml(render(blog.getContent()));
+        blog.setContentHash(hash);
+        blog.setRenderVersion(VERSION);
+        blog.getSections().clear();
+        blog.getSections().addAll(sections(blog, blog.getContentHtml()));
+        return true;
+    }
+
+    // Splits at the shallowest heading level used at the top of the document;
+    // anything before the first such heading becomes an untitled intro section
+    public List<BlogSection> sections(Blog blog, String html) {
+        List<BlogSection> sections = new ArrayList<>();
+        if (html == null || html.isBlank()) {
+            return sections;
+        }
+
+        List<Node> nodes = Jsoup.parseBodyFragment(html).body().childNodes();
+        int splitLevel = nodes.stream()
+                .mapToInt(BlogContentRenderer::headingLevel)
+                .filter(level -> level > 0)
+                .min()
+                .orElse(0);
+
+        BlogSection current = null;
+        StringBuilder body = new StringBuilder();
+        for (Node node : nodes) {
+            int level = headingLevel(node);
+            if (level > 0 && level == splitLevel) {
+                addSection(sections, blog, current, body);
+                Element heading = (Element) node;
+                current = new BlogSection(null, blog, 0, level, limit(heading.text()),
+                        heading.id().isEmpty() ? null : limit(heading.id()), null);
+                body = new StringBuilder();
+            }
+            body.append(node.outerHtml());
+        }
+        addSection(sections, blog, current, body);
+        return sections;
+    }
+
+    // Editor output always opens with a block tag; Markdown practically never does
+    private static boolean isHtml(String content) {
+        return content.stripLeading().startsWith("<")
+                && !Jsoup.parseBodyFragment(content).body().children().isEmpty();
+    }
+
+    private static void restrict(Document document) {
+        for (Element element : document.select("[style]")) {
+            Matcher align = TEXT_ALIGN.matcher(element.attr("style"));
+            if (align.find()) {
+                element.attr("style", "text-align: " + align.group(1).toLowerCase());
+            } else {
+                element.removeAttr("style");
+            }
+        }
+        for (Element element : document.select("pre[class], code[class]")) {
+            List<String> languages = element.classNames().stream()
+                    .filter(name -> LANGUAGE_CLASS.matcher(name).matches())
+                    .toList();
+            if (languages.isEmpty()) {
+                element.removeAttr("class");
+            } else {
+                element.attr("class", String.join(" ", languages));
+            }
+        }
+        for (Element link : document.select("a[target]")) {
+            if (!"_blank".equals(link.attr("target"))) {
+                link.removeAttr("target");
+            }
+        }
+        // Raster images only: an SVG data URI can carry script
+        for (Element image : document.select("img")) {
+            String src = image.attr("src");
+            if (src.isEmpty() || (startsWith(src, "data:")
+                    && DATA_IMAGE_TYPES.stream().noneMatch(type -> startsWith(src, type)))) {
+                image.remove();
+            }
+        }
+    }
+
+    // Every heading gets a slugged id, unique within the post, for TOC and section links.
+    // Assigned after sanitizing, so ids carried in by the source never survive
+    private static void anchorHeadings(Document document) {
+        Set<String> used = new HashSet<>();
+        for (Element heading : document.select("h1, h2, h3, h4, h5, h6")) {
+            String base = NOT_SLUG.matcher(heading.text().toLowerCase(Locale.ROOT)).replaceAll("-");
+            base = EDGE_DASHES.matcher(base).replaceAll("");
+            if (base.isEmpty()) {
+                base = "section";
+            }
+            // Room for a de-duplicating suffix within the 255-character anchor column
+            base = base.length() <= 240 ? base : base.substring(0, 240);
+            String id = base;
+            for (int i = 1; !used.add(id); i++) {
+                id = base + "-" + i;
+            }
+            heading.attr("id", id);
+        }
+    }
+
+    // Case-insensitive, without copying a possibly megabyte-long base64 source
+    private static boolean startsWith(String value, String prefix) {
+        return value.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static void addSection(List<BlogSection> sections, Blog blog, BlogSection section, StringBuilder body) {
+        if (section == null) {
+            // Intro before the first heading; skip if it is only whitespace
+            if (body.toString().isBlank()) {
+                return;
+            }
+            section = new BlogSection(null, blog, 0, 0, null, null, null);
+        }
+        section.setPosition(sections.size());
+        section.setHtml(body.toString().trim());
+        sections.add(section);
+    }
+
+    // heading and anchor are VARCHAR(255)
+    private static String limit(String text) {
+        return text.length() <= 255 ? text : text.substring(0, 255);
+    }
+
+    private static int headingLevel(Node node) {
+        if (node instanceof Element element) {
+            String tag = element.normalName();
+            if (tag.length() == 2 && tag.charAt(0) == 'h' && Character.isDigit(tag.charAt(1))) {
+                return tag.charAt(1) - '0';
+            }
+        }
+        return 0;
+    }
+}
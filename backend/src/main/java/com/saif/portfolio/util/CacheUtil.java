@@ -0,0 +1,37 @@
+package com.saif.portfolio.util;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.saif.portfolio.cache.BroadcastingCache;
+import com.saif.portfolio.cache.CacheKeys;
+
+public final class CacheUtil {
+
+    private CacheUtil() {
+    }
+
+    public static void clear(CacheManager cacheManager, String... names) {
+        for (String name : names) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    // Drops the matching entries; falls back to a full clear when the backing store cannot be scanned
+    public static void evictIf(CacheManager cacheManager, String name, CacheKeys match) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return;
+        }
+        if (cache instanceof BroadcastingCache broadcasting) {
+            broadcasting.evictIf(match);
+        } else if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(match::matches);
+        } else {
+            cache.clear();
+        }
+    }
+}
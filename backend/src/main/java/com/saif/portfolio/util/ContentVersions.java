@@ -0,0 +1,160 @@
+package com.saif.portfolio.util;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import com.saif.portfolio.cache.CacheInvalidationBus;
+
+/**
+ * Per-collection content generations used for ETag / Last-Modified validators.
+ * Generations live in content_versions and are bumped in the mutating transaction, so
+ * every node and every restart hands out the same validator for the same data.
+ * This node only adopts a bump after it commits, so a validator handed out before a
+ * read can never describe data newer than that read. Bumps are broadcast over
+ * {@link CacheInvalidationBus}, and peers re-read the table when one arrives.
+ */
+@Component
+public class ContentVersions implements CacheInvalidationBus.Subscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentVersions.class);
+
+    public static final String PROJECTS = "projects";
+    public static final String BLOGS = "blogs";
+    public static final String SKILLS = "skills";
+    public static final String CERTIFICATES = "certificates";
+
+    private static final List<String> COLLECTIONS = List.of(PROJECTS, BLOGS, SKILLS, CERTIFICATES);
+
+    private static final String TOPIC = "content-versions";
+
+    private static final String SEED_SQL = """
+            INSERT INTO content_versions (collection, generation, modified_at)
+            VALUES (?, 0, date_trunc('second', now()))
+            ON CONFLICT (collection) DO NOTHING
+            """;
+
+    // Last-Modified has whole-second precision: a second write within the same second
+    // moves it on by a second, or If-Modified-Since would keep answering 304
+    private static final String BUMP_SQL = """
+            INSERT INTO content_versions (collection, generation, modified_at)
+            VALUES (?, 1, date_trunc('second', now()))
+            ON CONFLICT (collection)
+            DO UPDATE SET generation = content_versions.generation + 1,
+                          modified_at = greatest(date_trunc('second', now()),
+                                                 content_versions.modified_at + interval '1 second')
+            RETURNING collection, generation, modified_at
+            """;
+
+    private static final RowMapper<Row> ROW = (rs, i) -> new Row(
+            rs.getString("collection"),
+            new Version(rs.getLong("generation"), rs.getTimestamp("modified_at").toInstant()));
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Null until read from content_versions; requests then go without validators
+    private volatile Map<String, Version> versions;
+
+    public ContentVersions(CacheInvalidationBus cacheInvalidationBus, JdbcTemplate jdbcTemplate) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.jdbcTemplate = jdbcTemplate;
+        cacheInvalidationBus.subscribe(TOPIC, this);
+    }
+
+    // Null when the generation is unknown, so no conditional request can match
+    public String etag(String collection) {
+        Version version = version(collection);
+        return version == null ? null : "\"" + collection + "-" + version.generation() + "\"";
+    }
+
+    public Instant lastModified(String collection) {
+        Version version = version(collection);
+        return version == null ? null : version.modifiedAt();
+    }
+
+    // Bumped in the caller's transaction (or right away without one); adopted here and
+    // published to peers once it commits, never on rollback
+    public void bumpAfterCommit(String... collections) {
+        Map<String, Version> bumped = new HashMap<>();
+        for (String collection : collections) {
+            Row row = jdbcTemplate.queryForObject(BUMP_SQL, ROW, collection);
+            bumped.put(row.collection(), row.version());
+        }
+        cacheInvalidationBus.publish(TOPIC, String.join(",", collections));
+        TransactionUtil.afterCommit(() -> adopt(bumped));
+    }
+
+    // -------------------------------------------------
+    // PEERS
+    // -------------------------------------------------
+    @Override
+    public void onMessage(String message) {
+        reload();
+    }
+
+    @Override
+    public void onResync() {
+        reload();
+    }
+
+    // -------------------------------------------------
+    // INTERNAL HELPERS
+    // -------------------------------------------------
+    private Version version(String collection) {
+        Map<String, Version> current = versions;
+        if (current == null) {
+            current = reload();
+        }
+        return current == null ? null : current.get(collection);
+    }
+
+    private synchronized Map<String, Version> reload() {
+        try {
+            Map<String, Version> loaded = load();
+            if (!loaded.keySet().containsAll(COLLECTIONS)) {
+                COLLECTIONS.forEach(collection -> jdbcTemplate.update(SEED_SQL, collection));
+                loaded = load();
+            }
+            merge(loaded);
+        } catch (DataAccessException ex) {
+            log.warn("Content versions not loaded, serving without validators: {}", ex.getMessage());
+        }
+        return versions;
+    }
+
+    private synchronized void adopt(Map<String, Version> bumped) {
+        if (versions != null) {
+            merge(bumped);
+        }
+    }
+
+    // Generations only move forward, whichever of a commit and a peer reload lands first
+    private void merge(Map<String, Version> latest) {
+        Map<String, Version> merged = versions == null ? new HashMap<>() : new HashMap<>(versions);
+        latest.forEach((collection, version) -> merged.merge(collection, version,
+                (a, b) -> a.generation() >= b.generation() ? a : b));
+        versions = merged;
+    }
+
+    private Map<String, Version> load() {
+        Map<String, Version> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT collection, generation, modified_at FROM content_versions", ROW)
+                .forEach(row -> loaded.put(row.collection(), row.version()));
+        return loaded;
+    }
+
+    private record Row(String collection, Version version) {
+    }
+
+    private record Version(long generation, Instant modifiedAt) {
+    }
+}
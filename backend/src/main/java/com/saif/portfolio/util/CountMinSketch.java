@@ -0,0 +1,94 @@
+package com.saif.portfolio.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Count-min sketch over weighted (decayable) counts in a fixed depth x width grid.
+ * Estimates never undercount; overcount is bounded by total weight / width per row.
+ * Not thread-safe; callers synchronise.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final double[][] counts;
+
+    public CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        this.counts = new double[depth][width];
+    }
+
+    // Returns the new estimate for the key
+    public double add(long hash, double weight) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int col = column(hash, row);
+            counts[row][col] += weight;
+            estimate = Math.min(estimate, counts[row][col]);
+        }
+        return estimate;
+    }
+
+    public double estimate(long hash) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[row][column(hash, row)]);
+        }
+        return estimate;
+    }
+
+    public void scale(double factor) {
+        for (double[] row : counts) {
+            for (int col = 0; col < width; col++) {
+                row[col] *= factor;
+            }
+        }
+    }
+
+    // Adds the other sketch's counts times factor, cell by cell (same dimensions only)
+    public void merge(CountMinSketch other, double factor) {
+        if (other.depth != depth || other.width != width) {
+            throw new IllegalArgumentException("Sketch dimensions differ");
+        }
+        for (int row = 0; row < depth; row++) {
+            for (int col = 0; col < width; col++) {
+                counts[row][col] += other.counts[row][col] * factor;
+            }
+        }
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public void write(DataOutputStream out) throws IOException {
+        for (double[] row : counts) {
+            for (double count : row) {
+                out.writeDouble(count);
+            }
+        }
+    }
+
+    // Reads counts written by a sketch of the same dimensions
+    public void read(DataInputStream in) throws IOException {
+        for (double[] row : counts) {
+            for (int col = 0; col < width; col++) {
+                row[col] = in.readDouble();
+            }
+        }
+    }
+
+    // Kirsch-Mitzenmacher: row i uses h1 + i * h2, both halves of one 64-bit hash
+    private int column(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + row * h2, width);
+    }
+}
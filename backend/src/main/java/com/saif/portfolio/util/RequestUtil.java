@@ -0,0 +1,29 @@
+package com.saif.portfolio.util;
+
+import org.springframework.http.HttpHeaders;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public final class RequestUtil {
+
+    private RequestUtil() {
+    }
+
+    // Anonymous visitor fingerprint (IP + User-Agent), hashed so nothing identifying is kept
+    public static long visitorHash(HttpServletRequest request) {
+        return HyperLogLog.hash64(visitorIp(request) + "|" + request.getHeader(HttpHeaders.USER_AGENT));
+    }
+
+    // Last X-Forwarded-For hop, the one our reverse proxy appended, then the socket address.
+    // Earlier hops are client-supplied, so a visitor cannot mint new identities by sending the header
+    private static String visitorIp(HttpServletRequest request) {
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded != null && !forwarded.isBlank()) {
+            String last = forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+            if (!last.isEmpty() && !"unknown".equalsIgnoreCase(last)) {
+                return last;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -18,11 +18,19 @@ CREATE TABLE blogs (
     slug VARCHAR(255) UNIQUE NOT NULL,
     summary VARCHAR(1000) NOT NULL,
     content TEXT NOT NULL,
+    content_html TEXT,
+    content_hash VARCHAR(64),
+    render_version INTEGER,
     category VARCHAR(100) NOT NULL,
     read_time VARCHAR(50) NOT NULL,
     author VARCHAR(255) NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', title), 'A') ||
+        setweight(to_tsvector('english', summary || ' ' || category), 'B') ||
+        setweight(to_tsvector('english', content), 'D')
+    ) STORED
 );
 
 CREATE TABLE blog_images (
@@ -32,6 +40,18 @@ CREATE TABLE blog_images (
     url VARCHAR(255) NOT NULL
 );
 
+CREATE TABLE blog_sections (
+    id SERIAL PRIMARY KEY,
+    blog_id INTEGER NOT NULL REFERENCES blogs(id) ON DELETE CASCADE,
+    position INTEGER NOT NULL,
+    level INTEGER NOT NULL,
+    heading VARCHAR(255),
+    anchor VARCHAR(255),
+    html TEXT NOT NULL
+);
+
+CREATE INDEX idx_blog_sections_blog_position ON blog_sections (blog_id, position);
+
 
 -- 6️⃣ PROJECTS TABLE (updated with SERIAL instead of BIGSERIAL)
 CREATE TABLE projects (
@@ -75,6 +95,51 @@ CREATE TABLE project_images (
 
 
 
+-- 🔁 PROJECT_CARDS (denormalized read model for /api/projects/simple)
+CREATE TABLE project_cards (
+    project_id INTEGER PRIMARY KEY REFERENCES projects(id) ON DELETE CASCADE,
+    title VARCHAR(255) NOT NULL,
+    slug VARCHAR(255) NOT NULL,
+    description TEXT,
+    github_url VARCHAR(255),
+    live_demo_url VARCHAR(255),
+    live BOOLEAN NOT NULL DEFAULT false,
+    published BOOLEAN NOT NULL DEFAULT false,
+    featured BOOLEAN NOT NULL DEFAULT false,
+    type VARCHAR(255) NOT NULL,
+    image_url VARCHAR(255),
+    technologies VARCHAR(255)[],
+    key_features TEXT,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', title), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(key_features, '')), 'C')
+    ) STORED
+);
+
+-- 👁️ CONTENT_VIEWS (write-behind view counters, flushed in batches)
+CREATE TABLE content_views (
+    content_type VARCHAR(20) NOT NULL,
+    slug VARCHAR(255) NOT NULL,
+    views BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (content_type, slug)
+);
+
+-- 🏷️ CONTENT_VERSIONS (shared ETag / Last-Modified validators per collection)
+CREATE TABLE content_versions (
+    collection VARCHAR(50) PRIMARY KEY,
+    generation BIGINT NOT NULL,
+    modified_at TIMESTAMPTZ NOT NULL
+);
+
+-- 📈 TRENDING_SNAPSHOTS (serialized count-min sketch + HyperLogLogs)
+CREATE TABLE trending_snapshots (
+    id VARCHAR(50) PRIMARY KEY,
+    data BYTEA NOT NULL,
+    taken_at TIMESTAMP NOT NULL
+);
+
 CREATE TABLE certificates (
     id SERIAL PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
@@ -100,6 +165,8 @@ CREATE INDEX idx_projects_type ON projects(type);
 CREATE INDEX idx_project_technologies_skill_id ON project_technologies(skill_id);
 CREATE INDEX idx_blogs_category ON blogs(category);
 CREATE INDEX idx_blogs_slug ON blogs(slug);
+CREATE INDEX idx_blogs_search ON blogs USING GIN (search_vector);
+CREATE INDEX idx_project_cards_search ON project_cards USING GIN (search_vector);
 
 -- 1️⃣1️⃣ TRIGGER function for updated_at
 CREATE OR REPLACE FUNCTION update_updated_at_column()
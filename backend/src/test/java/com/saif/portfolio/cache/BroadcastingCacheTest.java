@@ -0,0 +1,81 @@
+package com.saif.portfolio.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class BroadcastingCacheTest {
+
+    private final CaffeineCache local = new CaffeineCache("projectResponses", Caffeine.newBuilder().build());
+    private final CacheInvalidationBus bus = mock(CacheInvalidationBus.class);
+    private final BroadcastingCache cache = new BroadcastingCache(local, bus);
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictionsInsideATransactionWaitForTheCommit() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict("a");
+        cache.clear();
+
+        // Published at once (the bus delivers on commit), still served locally until then
+        verify(bus).publishEvict("projectResponses", "a");
+        verify(bus).publishClear("projectResponses");
+        assertThat(local.get("a")).isNotNull();
+        assertThat(local.get("b")).isNotNull();
+
+        commit();
+        assertThat(local.get("a")).isNull();
+        assertThat(local.get("b")).isNull();
+    }
+
+    @Test
+    void evictIfSendsTheKeysAndPrefixesNotAClear() {
+        cache.put("/api/projects", "all");
+        cache.put("/api/projects/simple?page=0&size=6", "page");
+        cache.put("/api/projects/slug/shop", "shop");
+        cache.put("/api/projects/slug/notes", "notes");
+        CacheKeys match = new CacheKeys(Set.of("/api/projects", "/api/projects/slug/shop"),
+                Set.of("/api/projects/simple?"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictIf(match);
+
+        verify(bus).publishEvict("projectResponses", match);
+        assertThat(local.getNativeCache().asMap()).hasSize(4);
+
+        commit();
+        assertThat(local.getNativeCache().asMap()).containsOnlyKeys("/api/projects/slug/notes");
+    }
+
+    @Test
+    void withoutATransactionEvictionsApplyImmediately() {
+        cache.put("a", 1);
+
+        cache.evict("a");
+
+        assertThat(local.get("a")).isNull();
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+}
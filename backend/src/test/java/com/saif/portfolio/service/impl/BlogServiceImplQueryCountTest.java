@@ -0,0 +1,171 @@
+package com.saif.portfolio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.saif.portfolio.dto.BlogDetailResponse;
+import com.saif.portfolio.dto.BlogRequest;
+import com.saif.portfolio.dto.BlogResponse;
+import com.saif.portfolio.dto.BlogSectionResponse;
+import com.saif.portfolio.dto.BlogTocEntry;
+import com.saif.portfolio.dto.ImageUploadResponse;
+import com.saif.portfolio.model.Blog;
+import com.saif.portfolio.model.BlogImage;
+import com.saif.portfolio.repository.BlogRepository;
+import com.saif.portfolio.util.BlogContentRenderer;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({
+    BlogServiceImpl.class,
+    BlogContentRenderer.class,
+    BlogEntityCache.class,
+    ReadOnlyLoader.class,
+    BlogCacheEvictor.class,
+    BlogServiceImplQueryCountTest.Caches.class
+})
+class BlogServiceImplQueryCountTest {
+
+    private static final String CONTENT = """
+            Intro paragraph.
+
+            ## First
+
+            One.
+
+            ## Second
+
+            Two.
+
+            ## Third
+
+            Three.
+            """;
+
+    @Autowired
+    private BlogServiceImpl blogService;
+
+    @Autowired
+    private BlogContentRenderer blogContentRenderer;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @MockitoBean
+    private BlogSimilarityIndex blogSimilarityIndex;
+
+    @MockitoBean
+    private BlogIndexWriter blogIndexWriter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Integer blogId;
+
+    @TestConfiguration
+    static class Caches {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        Blog blog = new Blog();
+        blog.setTitle("Query Counting");
+        blog.setSlug("query-counting");
+        blog.setSummary("Summary");
+        blog.setCategory("backend");
+        blog.setReadTime("3 min");
+        blog.setAuthor("Saif");
+        blog.setContent(CONTENT);
+        blogContentRenderer.apply(blog);
+
+        BlogImage image = new BlogImage();
+        image.setPublicId("cover");
+        image.setUrl("https://images.example/cover.png");
+        image.setBlog(blog);
+        blog.setImage(image);
+
+        blogId = entityManager.persist(blog).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getBlogBySlugIsOneStatement() {
+        BlogDetailResponse detail = blogService.getBlogBySlug("Query-Counting");
+
+        assertThat(detail.getImage().getUrl()).isEqualTo("https://images.example/cover.png");
+        assertThat(detail.getTotalSections()).isEqualTo(4);
+        assertThat(detail.getToc()).extracting(BlogTocEntry::getHeading)
+                .containsExactly("First", "Second", "Third");
+        // app.blog.initial-sections defaults to 2: the intro and "First"
+        assertThat(detail.getSections()).extracting(BlogSectionResponse::getPosition)
+                .containsExactly(0, 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getBlogByIdIsOneStatementAndLoadsNoEntity() {
+        BlogResponse blog = blogService.getBlogById(blogId);
+
+        assertThat(blog.getContent()).isEqualTo(CONTENT);
+        assertThat(blog.getImage().getPublicId()).isEqualTo("cover");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void updateBlogLoadsImageWithTheBlog() {
+        BlogRequest request = new BlogRequest(
+                "Query Counting", "query-counting", "New summary", CONTENT, "backend", "3 min", "Saif",
+                new ImageUploadResponse("cover-2", "https://images.example/cover-2.png"));
+
+        BlogResponse updated = blogService.updateBlog(blogId, request);
+
+        assertThat(updated.getImage().getPublicId()).isEqualTo("cover-2");
+        // one joined select, then the blog and image UPDATEs; unchanged content leaves sections
+        // and the lazy HTML column alone
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void metadataLoadsLeaveBodyUnread() {
+        List<Blog> blogs = blogRepository.findAll();
+        blogs.forEach(Blog::getTitle);
+
+        assertThat(blogs).allSatisfy(blog -> {
+            assertThat(Hibernate.isPropertyInitialized(blog, "content")).isFalse();
+            assertThat(Hibernate.isPropertyInitialized(blog, "contentHtml")).isFalse();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,184 @@
+package com.saif.portfolio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import com.saif.portfolio.dto.BlogListResponse;
+import com.saif.portfolio.dto.RenderedDocument;
+import com.saif.portfolio.model.ProjectCard;
+
+class FeedServiceImplTest {
+
+    private static final Instant DAY_ONE = Instant.parse("2025-03-01T08:00:00Z");
+    private static final int FEED_SIZE = 3;
+
+    // The repository is only used by load()
+    private final FeedServiceImpl feedService = new FeedServiceImpl(null, "https://example.dev/", "Saif's <Blog>", FEED_SIZE);
+
+    @Test
+    void feedKeepsTheNewestPostsUpToItsSize() throws Exception {
+        // One more post than the feed holds, written out of order
+        feedService.putBlog(blog(2, "Second", DAY_ONE.plusSeconds(86_400)));
+        feedService.putBlog(blog(4, "Fourth", DAY_ONE.plusSeconds(3 * 86_400)));
+        feedService.putBlog(blog(1, "First", DAY_ONE));
+        feedService.putBlog(blog(3, "Third", DAY_ONE.plusSeconds(2 * 86_400)));
+
+        Document feed = parse(feedService.getFeed().getBody());
+        assertThat(texts(feed, "/rss/channel/item/title")).containsExactly("Fourth", "Third", "Second");
+        assertThat(texts(feed, "/rss/channel/item/link")).containsExactly(
+                "https://example.dev/blogs/post-4", "https://example.dev/blogs/post-3", "https://example.dev/blogs/post-2");
+        assertThat(texts(feed, "/rss/channel/lastBuildDate")).containsExactly("Tue, 4 Mar 2025 08:00:00 GMT");
+
+        // The sitemap is not capped
+        assertThat(locs()).contains("https://example.dev/blogs/post-1", "https://example.dev/blogs/post-4");
+
+        // Dropping the newest post lets the oldest back in
+        feedService.removeBlog(4);
+        assertThat(texts(parse(feedService.getFeed().getBody()), "/rss/channel/item/title"))
+                .containsExactly("Third", "Second", "First");
+        assertThat(locs()).doesNotContain("https://example.dev/blogs/post-4");
+    }
+
+    @Test
+    void postsFromTheSameInstantAreOrderedByIdNewestFirst() throws Exception {
+        feedService.putBlog(blog(7, "Seven", DAY_ONE));
+        feedService.putBlog(blog(9, "Nine", DAY_ONE));
+        feedService.putBlog(blog(8, "Eight", DAY_ONE));
+
+        assertThat(texts(parse(feedService.getFeed().getBody()), "/rss/channel/item/title"))
+                .containsExactly("Nine", "Eight", "Seven");
+    }
+
+    @Test
+    void unpublishingAProjectRemovesItFromTheSitemap() throws Exception {
+        feedService.put(card(5, "shop", true));
+        feedService.put(card(6, "notes", true));
+        String etag = feedService.getSitemap().getEtag();
+        assertThat(locs()).contains("https://example.dev/projects/shop", "https://example.dev/projects/notes");
+
+        feedService.put(card(5, "shop", false));
+        assertThat(locs()).doesNotContain("https://example.dev/projects/shop")
+                .contains("https://example.dev/projects/notes");
+        assertThat(feedService.getSitemap().getEtag()).isNotEqualTo(etag);
+
+        // Never-published projects do not appear at all
+        feedService.put(card(7, "draft", false));
+        feedService.remove(6);
+        assertThat(locs()).containsExactly(
+                "https://example.dev/", "https://example.dev/blogs", "https://example.dev/projects");
+    }
+
+    @Test
+    void rebuildKeepsOnlyPublishedProjects() throws Exception {
+        feedService.put(card(1, "old", true));
+
+        feedService.rebuild(List.of(card(2, "live", true), card(3, "hidden", false)));
+
+        assertThat(locs()).contains("https://example.dev/projects/live")
+                .doesNotContain("https://example.dev/projects/old", "https://example.dev/projects/hidden");
+    }
+
+    @Test
+    void markupIsEscapedAndControlCharactersDropped() throws Exception {
+        BlogListResponse blog = blog(1, "Tips & <tricks>\u0000\u0001\u000B\u001F for \"Spring\"", DAY_ONE);
+        blog.setSummary("Bell\u0007 and form feed\u000C, tab\tkept; it's 'quoted' > all");
+        blog.setCategory("c&c");
+        feedService.putBlog(blog);
+
+        // Parsing fails on any unescaped markup or character XML 1.0 forbids
+        Document feed = parse(feedService.getFeed().getBody());
+        assertThat(texts(feed, "/rss/channel/title")).containsExactly("Saif's <Blog>");
+        assertThat(texts(feed, "/rss/channel/item/title")).containsExactly("Tips & <tricks> for \"Spring\"");
+        assertThat(texts(feed, "/rss/channel/item/description"))
+                .containsExactly("Bell and form feed, tab\tkept; it's 'quoted' > all");
+        assertThat(texts(feed, "/rss/channel/item/category")).containsExactly("c&c");
+        assertThat(new String(feedService.getFeed().getBody(), StandardCharsets.UTF_8))
+                .contains("Tips &amp; &lt;tricks&gt; for &quot;Spring&quot;");
+    }
+
+    @Test
+    void gzipAndPlainBodiesAgree() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            feedService.putBlog(blog(i, "Post " + i + " ünïcödé", DAY_ONE.plusSeconds(i)));
+            feedService.put(card(i, "project-" + i, true));
+        }
+
+        for (RenderedDocument document : List.of(feedService.getFeed(), feedService.getSitemap())) {
+            assertThat(gunzip(document.getGzip())).isEqualTo(document.getBody());
+            assertThat(document.getEtag()).matches("\"[0-9a-f]{32}\"");
+        }
+    }
+
+    @Test
+    void unchangedDocumentsKeepTheirEtag() {
+        feedService.putBlog(blog(1, "Same", DAY_ONE));
+        String feedEtag = feedService.getFeed().getEtag();
+
+        feedService.putBlog(blog(1, "Same", DAY_ONE));
+        assertThat(feedService.getFeed().getEtag()).isEqualTo(feedEtag);
+
+        feedService.putBlog(blog(1, "Renamed", DAY_ONE));
+        assertThat(feedService.getFeed().getEtag()).isNotEqualTo(feedEtag);
+    }
+
+    private List<String> locs() throws Exception {
+        return texts(parse(feedService.getSitemap().getBody()), "/urlset/url/loc");
+    }
+
+    private static Document parse(byte[] xml) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+    }
+
+    private static List<String> texts(Document document, String path) throws Exception {
+        NodeList nodes = (NodeList) XPathFactory.newInstance().newXPath()
+                .evaluate(path, document, XPathConstants.NODESET);
+        List<String> texts = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) {
+            texts.add(nodes.item(i).getTextContent());
+        }
+        return texts;
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static BlogListResponse blog(int id, String title, Instant createdAt) {
+        return BlogListResponse.builder()
+                .id(id)
+                .title(title)
+                .slug("post-" + id)
+                .summary("Summary of " + id)
+                .category("java")
+                .author("Saif")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static ProjectCard card(int id, String slug, boolean published) {
+        return ProjectCard.builder()
+                .projectId(id)
+                .title(slug)
+                .slug(slug)
+                .published(published)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.saif.portfolio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saif.portfolio.cache.CacheInvalidationBus;
+import com.saif.portfolio.dto.ImageUploadResponse;
+import com.saif.portfolio.dto.ProjectFilter;
+import com.saif.portfolio.dto.ProjectImportResponse;
+import com.saif.portfolio.dto.ProjectImportResponse.RowError;
+import com.saif.portfolio.dto.ProjectRequest;
+import com.saif.portfolio.model.ProjectCard;
+import com.saif.portfolio.model.ProjectType;
+import com.saif.portfolio.model.Skill;
+import com.saif.portfolio.repository.ProjectCardRepository;
+import com.saif.portfolio.repository.SkillRepository;
+
+// Chunks commit on their own, so the test runs outside a test transaction and cleans up after itself
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "app.import.batch-size=3"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({
+    ProjectImporter.class,
+    ProjectCardWriter.class,
+    ProjectFilterIndex.class,
+    ProjectImporterTest.Bus.class
+})
+class ProjectImporterTest {
+
+    @Autowired
+    private ProjectImporter projectImporter;
+
+    @Autowired
+    private ProjectFilterIndex projectFilterIndex;
+
+    @Autowired
+    private ProjectCardRepository projectCardRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long java;
+    private Long react;
+
+    @TestConfiguration
+    static class Bus {
+        // Node-local: nothing is broadcast in tests
+        @Bean
+        CacheInvalidationBus cacheInvalidationBus(DataSource dataSource) {
+            return new CacheInvalidationBus(dataSource, "cache_invalidation", false);
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        // Stand-in for Postgres' serial sequence lookup
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS import_project_ids START WITH 1000");
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS pg_get_serial_sequence AS "
+                + "'String lookup(String table, String column) { return \"import_project_ids\"; }'");
+
+        java = skillRepository.save(skill("Java")).getId();
+        react = skillRepository.save(skill("React")).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (String table : List.of("project_cards", "project_key_features", "project_images",
+                "project_technologies", "projects", "skills")) {
+            jdbcTemplate.execute("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void failingRowIsRetriedAloneAndOnlyItIsReported() throws Exception {
+        List<ProjectRequest> rows = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            rows.add(request(i));
+        }
+        // Passes validation but not the 255-character key_feature column
+        rows.get(1).getKeyFeatures().add("x".repeat(300));
+
+        ProjectImportResponse response = importAll(rows);
+
+        assertThat(response.getTotal()).isEqualTo(6);
+        assertThat(response.getImported()).isEqualTo(5);
+        assertThat(response.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRow()).isEqualTo(2);
+            assertThat(error.getSlug()).isEqualTo("import-2");
+            assertThat(error.getMessage()).startsWith("Insert failed");
+        });
+
+        // The rest of the failed chunk is committed, cards included
+        List<ProjectCard> cards = projectCardRepository.findAll();
+        assertThat(cards).extracting(ProjectCard::getSlug)
+                .containsExactlyInAnyOrder("import-1", "import-3", "import-4", "import-5", "import-6");
+        assertThat(cards).allSatisfy(card -> {
+            assertThat(card.getImageUrl()).endsWith("/cover.png");
+            assertThat(card.getTechnologies()).containsExactly("Java", "React");
+        });
+        assertThat(projectFilterIndex.filter(new ProjectFilter(), PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(5);
+    }
+
+    @Test
+    void nullOrBlankImagesAreRejectedByValidation() throws Exception {
+        ProjectRequest nullImage = request(1);
+        nullImage.getImages().add(0, null);
+        ProjectRequest blankUrl = request(2);
+        blankUrl.getImages().get(0).setUrl(" ");
+
+        ProjectImportResponse response = importAll(List.of(nullImage, blankUrl, request(3)));
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(RowError::getRow).containsExactly(1, 2);
+        assertThat(response.getErrors().get(0).getMessage()).contains("Image must not be null");
+        assertThat(response.getErrors().get(1).getMessage()).contains("Image URL must not be blank");
+    }
+
+    private ProjectImportResponse importAll(List<ProjectRequest> rows) throws Exception {
+        return projectImporter.importProjects(new ByteArrayInputStream(objectMapper.writeValueAsBytes(rows)));
+    }
+
+    private ProjectRequest request(int i) {
+        List<ImageUploadResponse> images = new ArrayList<>();
+        images.add(new ImageUploadResponse("cover-" + i, "https://images.example/" + i + "/cover.png"));
+        images.add(new ImageUploadResponse("shot-" + i, "https://images.example/" + i + "/shot.png"));
+        return new ProjectRequest(
+                "Import " + i, "import-" + i, "Description " + i,
+                new ArrayList<>(List.of("Feature A", "Feature B")),
+                "https://github.example/" + i, "https://demo.example/" + i,
+                true, true, false, ProjectType.Personal,
+                images, List.of(react, java));
+    }
+
+    private static Skill skill(String name) {
+        Skill skill = new Skill();
+        skill.setName(name);
+        skill.setCategory("backend");
+        skill.setPriority(1);
+        skill.setIconUrl("https://icons.example/" + name.toLowerCase() + ".svg");
+        return skill;
+    }
+}
@@ -0,0 +1,334 @@
+package com.saif.portfolio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.saif.portfolio.cache.CacheInvalidationBus;
+import com.saif.portfolio.dto.ImageUploadResponse;
+import com.saif.portfolio.dto.ProjectFilter;
+import com.saif.portfolio.dto.ProjectRequest;
+import com.saif.portfolio.dto.ProjectResponse;
+import com.saif.portfolio.dto.SimpleProjectResponse;
+import com.saif.portfolio.model.Project;
+import com.saif.portfolio.model.ProjectImage;
+import com.saif.portfolio.model.ProjectKeyFeature;
+import com.saif.portfolio.model.ProjectKeyFeatureId;
+import com.saif.portfolio.model.ProjectType;
+import com.saif.portfolio.model.Skill;
+import com.saif.portfolio.repository.ProjectCardRepository;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({
+    ProjectServiceImpl.class,
+    ProjectCardWriter.class,
+    ProjectCacheEvictor.class,
+    ProjectEntityCache.class,
+    ReadOnlyLoader.class,
+    ProjectSimilarityIndex.class,
+    ProjectFilterIndex.class,
+    ProjectServiceImplQueryCountTest.Caches.class
+})
+class ProjectServiceImplQueryCountTest {
+
+    private static final int PROJECTS = 8;
+
+    // 1 root query + 1 subselect each for keyFeatures, images and technologies
+    private static final long LISTING_STATEMENTS = 4;
+
+    @Autowired
+    private ProjectServiceImpl projectService;
+
+    @Autowired
+    private ProjectCardWriter projectCardWriter;
+
+    @Autowired
+    private ProjectCacheEvictor projectCacheEvictor;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProjectFilterIndex projectFilterIndex;
+
+    @Autowired
+    private ProjectCardRepository projectCardRepository;
+
+    @MockitoBean
+    private ProjectImporter projectImporter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @TestConfiguration
+    static class Caches {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        // Node-local: nothing is broadcast in tests
+        @Bean
+        CacheInvalidationBus cacheInvalidationBus(DataSource dataSource) {
+            return new CacheInvalidationBus(dataSource, "cache_invalidation", false);
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        // schema.sql's cascading key, missing from the generated schema. DDL commits in H2,
+        // so it runs before anything is written in the test transaction
+        entityManager.getEntityManager().createNativeQuery("""
+                ALTER TABLE project_cards ADD CONSTRAINT IF NOT EXISTS fk_project_cards_project
+                FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+                """).executeUpdate();
+
+        Skill java = persistSkill("Java");
+        Skill react = persistSkill("React");
+
+        for (int i = 0; i < PROJECTS; i++) {
+            persistProject(i, List.of(java, react));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllProjectsUsesFixedStatementCount() {
+        List<ProjectResponse> projects = projectService.getAllProjects();
+
+        assertThat(projects).hasSize(PROJECTS);
+        assertFullyHydrated(projects);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(LISTING_STATEMENTS);
+    }
+
+    @Test
+    void getFeaturedProjectsUsesFixedStatementCount() {
+        List<ProjectResponse> projects = projectService.getFeaturedProjects();
+
+        assertThat(projects).hasSize(PROJECTS / 2);
+        assertFullyHydrated(projects);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(LISTING_STATEMENTS);
+    }
+
+    @Test
+    void getProjectsByTypeUsesFixedStatementCount() {
+        List<ProjectResponse> projects = projectService.getProjectsByType("personal");
+
+        assertThat(projects).hasSize(PROJECTS / 2);
+        assertFullyHydrated(projects);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(LISTING_STATEMENTS);
+    }
+
+    @Test
+    void getAllSimpleProjectResponsesReadsCardsOnly() {
+        projectCardWriter.backfillIfStale();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Page<SimpleProjectResponse> page = projectService.getAllSimpleProjectResponses(0, 5);
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(PROJECTS);
+        assertThat(page.getContent().get(0).getSlug()).isEqualTo("project-" + (PROJECTS - 1));
+        assertThat(page.getContent()).allSatisfy(p -> {
+            assertThat(p.getImageUrl()).endsWith("/0.png");
+            assertThat(p.getTechnologies()).containsExactly("Java", "React");
+        });
+        // page query + count query, no joins into the project tables
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void filterProjectsIsServedFromIndex() {
+        projectCardWriter.backfillIfStale();
+        projectFilterIndex.rebuild(projectCardRepository.findAll());
+        statistics.clear();
+
+        ProjectFilter filter = ProjectFilter.builder()
+                .technologies(List.of("java", "REACT"))
+                .matchAllTechnologies(true)
+                .types(List.of(ProjectType.Personal))
+                .featured(true)
+                .build();
+        Page<SimpleProjectResponse> page = projectService.filterProjects(filter, 0, 3);
+
+        assertThat(page.getTotalElements()).isEqualTo(PROJECTS / 2);
+        assertThat(page.getContent()).extracting(SimpleProjectResponse::getSlug)
+                .containsExactly("project-6", "project-4", "project-2");
+
+        filter.setTechnologies(List.of("Kotlin"));
+        assertThat(projectService.filterProjects(filter, 0, 3).getTotalElements()).isZero();
+        filter.setMatchAllTechnologies(false);
+        filter.setTechnologies(List.of("Kotlin", "Java"));
+        filter.setFeatured(false);
+        filter.setTypes(List.of());
+        assertThat(projectService.filterProjects(filter, 0, 10).getTotalElements()).isEqualTo(PROJECTS / 2);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    // 13 and 41 key features: the statement count must not depend on how many change
+    @ParameterizedTest
+    @ValueSource(ints = {12, 40})
+    void updateProjectSyncsChildrenWithBatchedStatements(int newFeatures) {
+        List<Long> technologies = new ArrayList<>();
+        technologies.add(entityManager.find(Project.class, firstProjectId()).getTechnologies().stream()
+                .filter(s -> s.getName().equals("Java")).findFirst().orElseThrow().getId());
+        for (int i = 0; i < 6; i++) {
+            technologies.add(persistSkill("Extra " + i).getId());
+        }
+        List<String> features = new ArrayList<>(List.of("Feature A"));
+        for (int i = 0; i < newFeatures; i++) {
+            features.add("New feature " + i);
+        }
+        Integer id = firstProjectId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        ProjectRequest request = new ProjectRequest(
+                "Project 0", "project-0", "Updated", features, "https://github.example/0", "https://demo.example/0",
+                true, true, true, ProjectType.Personal,
+                List.of(new ImageUploadResponse("img-0-0", "https://images.example/0/0.png"),
+                        new ImageUploadResponse("img-0-new", "https://images.example/0/new.png")),
+                technologies);
+        projectService.updateProject(id, request);
+
+        // Loads, the project UPDATE, one batch per changed collection and statement type,
+        // one INSERT per new image (IDENTITY ids cannot be batched) and the card upsert;
+        // independent of how many features or technologies change
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(13);
+
+        entityManager.clear();
+        Project updated = entityManager.find(Project.class, id);
+        assertThat(updated.getKeyFeatures()).hasSize(newFeatures + 1);
+        assertThat(updated.getImages()).extracting(ProjectImage::getPublicId)
+                .containsExactlyInAnyOrder("img-0-0", "img-0-new");
+        assertThat(updated.getTechnologies()).hasSize(7)
+                .noneMatch(skill -> skill.getName().equals("React"));
+    }
+
+    @Test
+    void deleteProjectRemovesCardUnderCascadingForeignKey() {
+        projectCardWriter.backfillIfStale();
+        Integer id = firstProjectId();
+        entityManager.flush();
+        entityManager.clear();
+
+        projectService.deleteProject(id);
+        entityManager.flush();
+
+        assertThat(projectCardRepository.existsById(id)).isFalse();
+        assertThat(entityManager.find(Project.class, id)).isNull();
+    }
+
+    @Test
+    void projectIdAndSlugShareOneCachedEntry() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        Integer id = firstProjectId();
+        statistics.clear();
+
+        ProjectResponse cached = projectService.getProjectBySlug("Project-0");
+        ProjectResponse other = projectService.getProjectBySlug("project-1");
+        long loads = statistics.getPrepareStatementCount();
+
+        assertThat(projectService.getProjectById(id)).isSameAs(cached);
+        assertThat(projectService.getProjectBySlug("project-0")).isSameAs(cached);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(loads);
+
+        // A write to one project leaves every other cached project in place
+        projectCacheEvictor.evictProjects(List.of(id), List.of("project-0"));
+        assertThat(projectService.getProjectBySlug("project-1")).isSameAs(other);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(loads);
+
+        assertThat(projectService.getProjectById(id)).isNotSameAs(cached);
+    }
+
+    private Integer firstProjectId() {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT p.id FROM Project p WHERE p.slug = 'project-0'", Integer.class)
+                .getSingleResult();
+    }
+
+    private void assertFullyHydrated(List<ProjectResponse> projects) {
+        assertThat(projects).allSatisfy(p -> {
+            assertThat(p.getKeyFeatures()).hasSize(2);
+            assertThat(p.getImages()).hasSize(2);
+            assertThat(p.getTechnologies()).containsExactlyInAnyOrder("Java", "React");
+        });
+    }
+
+    private Skill persistSkill(String name) {
+        Skill skill = new Skill();
+        skill.setName(name);
+        skill.setCategory("backend");
+        skill.setPriority(1);
+        skill.setIconUrl("https://icons.example/" + name.toLowerCase() + ".svg");
+        return entityManager.persist(skill);
+    }
+
+    private void persistProject(int i, List<Skill> technologies) {
+        Project project = new Project();
+        project.setTitle("Project " + i);
+        project.setSlug("project-" + i);
+        project.setDescription("Description " + i);
+        project.setFeatured(i % 2 == 0);
+        project.setType(i % 2 == 0 ? ProjectType.Personal : ProjectType.Freelance);
+        project.setCreatedAt(Instant.now());
+        project.setTechnologies(new HashSet<>(technologies));
+
+        Set<ProjectKeyFeature> features = new HashSet<>();
+        features.add(new ProjectKeyFeature(new ProjectKeyFeatureId(null, "Feature A"), project));
+        features.add(new ProjectKeyFeature(new ProjectKeyFeatureId(null, "Feature B"), project));
+        project.setKeyFeatures(features);
+
+        List<ProjectImage> images = new ArrayList<>();
+        for (int j = 0; j < 2; j++) {
+            ProjectImage image = new ProjectImage();
+            image.setPublicId("img-" + i + "-" + j);
+            image.setUrl("https://images.example/" + i + "/" + j + ".png");
+            image.setProject(project);
+            images.add(image);
+        }
+        project.setImages(images);
+
+        entityManager.persist(project);
+    }
+}
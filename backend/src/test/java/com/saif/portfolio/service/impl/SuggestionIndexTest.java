@@ -0,0 +1,157 @@
+package com.saif.portfolio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Instant;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import com.saif.portfolio.cache.CacheInvalidationBus;
+import com.saif.portfolio.dto.SuggestionResponse;
+import com.saif.portfolio.model.ProjectCard;
+import com.saif.portfolio.model.Skill;
+
+class SuggestionIndexTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    // The repositories are only used by load() and peer updates; the bus stays local
+    private final SuggestionIndex index = new SuggestionIndex(null, null,
+            new CacheInvalidationBus(mock(DataSource.class), "cache_invalidation", false));
+
+    @Test
+    void putMatchesEveryWordStartIgnoringCaseAndSpacing() {
+        index.put(card(1, "Spring  Caching Demo", false));
+
+        assertThat(labels("spr")).containsExactly("Spring  Caching Demo");
+        assertThat(labels("CACH")).containsExactly("Spring  Caching Demo");
+        assertThat(labels("  demo ")).containsExactly("Spring  Caching Demo");
+        assertThat(labels("aching")).isEmpty();
+        assertThat(labels(" ")).isEmpty();
+    }
+
+    @Test
+    void renameDropsTheOldKeys() {
+        index.put(card(1, "Weather App", false));
+        index.put(card(1, "Forecast Dashboard", false));
+
+        assertThat(labels("weather")).isEmpty();
+        assertThat(labels("app")).isEmpty();
+        assertThat(index.suggest("fore", 10))
+                .containsExactly(new SuggestionResponse("project", "Forecast Dashboard", "forecast-dashboard"));
+
+        index.putBlog(7, "Old title", "old-title", "java", NOW);
+        index.putBlog(7, "New title", "new-title", "java", NOW);
+        assertThat(labels("old")).isEmpty();
+        assertThat(labels("new")).containsExactly("New title");
+    }
+
+    @Test
+    void removeDropsEntriesAndPrunesSharedPrefixes() {
+        index.put(card(1, "Portfolio", false));
+        index.put(card(2, "Portal", false));
+        Skill postgres = skill(3L, "PostgreSQL", 2);
+        index.putSkill(postgres);
+
+        // Fill the cached top lists first, so removal has to invalidate them
+        assertThat(labels("po")).containsExactly("PostgreSQL", "Portal", "Portfolio");
+
+        index.remove(2);
+        assertThat(labels("po")).containsExactly("PostgreSQL", "Portfolio");
+        assertThat(labels("portal")).isEmpty();
+
+        index.removeSkill(postgres.getId());
+        assertThat(labels("po")).containsExactly("Portfolio");
+
+        index.remove(1);
+        assertThat(labels("p")).isEmpty();
+    }
+
+    @Test
+    void categoryStaysUntilItsLastBlogIsGone() {
+        index.putBlog(1, "Streams explained", "streams", "Java", NOW);
+        index.putBlog(2, "Records in depth", "records", "java", NOW);
+        assertThat(labels("jav")).containsExactly("java");
+
+        index.removeBlog(1);
+        assertThat(labels("jav")).containsExactly("java");
+
+        // Moving the last blog to another category drops the old one
+        index.putBlog(2, "Records in depth", "records", "kotlin", NOW);
+        assertThat(labels("jav")).isEmpty();
+        assertThat(index.suggest("kot", 10))
+                .containsExactly(new SuggestionResponse("category", "kotlin", "kotlin"));
+    }
+
+    @Test
+    void prefixRankingFollowsPriorityThenKindThenRecency() {
+        index.putSkill(skill(1L, "Spring Security", 3));
+        index.putSkill(skill(2L, "Spring Boot", 1));
+        index.put(card(5, "Spring Shop", false));
+        index.put(card(7, "Spring Notes", false));
+        index.put(card(3, "Springfield Map", true));
+        index.putBlog(1, "Spring caching", "spring-caching", "spring", NOW.minusSeconds(3600));
+        index.putBlog(2, "Spring tips", "spring-tips", "spring", NOW);
+
+        assertThat(labels("spr")).containsExactly(
+                "Spring Boot",       // skill, priority 1
+                "Springfield Map",   // featured project, priority 1
+                "Spring Notes",      // projects, newest id first
+                "Spring Shop",
+                "Spring tips",       // blogs, newest first
+                "Spring caching",
+                "Spring Security",   // skill, priority 3
+                "spring");           // category, priority 3
+        assertThat(labels("spring t")).containsExactly("Spring tips");
+    }
+
+    @Test
+    void resultsAreCappedByLimitAndIndexSize() {
+        for (int i = 1; i <= SuggestionIndex.MAX_RESULTS + 2; i++) {
+            index.put(card(i, "Demo " + i, false));
+        }
+
+        assertThat(index.suggest("demo", 3)).extracting(SuggestionResponse::getLabel)
+                .containsExactly("Demo 12", "Demo 11", "Demo 10");
+        assertThat(index.suggest("demo", 50)).hasSize(SuggestionIndex.MAX_RESULTS);
+    }
+
+    @Test
+    void rebuildReplacesOnlyProjects() {
+        index.put(card(1, "Legacy Tool", false));
+        index.putSkill(skill(1L, "Lua", 2));
+
+        index.rebuild(List.of(card(2, "Ledger", false)));
+
+        assertThat(labels("l")).containsExactly("Lua", "Ledger");
+    }
+
+    private List<String> labels(String prefix) {
+        return index.suggest(prefix, SuggestionIndex.MAX_RESULTS).stream()
+                .map(SuggestionResponse::getLabel)
+                .toList();
+    }
+
+    private static ProjectCard card(int id, String title, boolean featured) {
+        return ProjectCard.builder()
+                .projectId(id)
+                .title(title)
+                .slug(title.toLowerCase().replace(' ', '-'))
+                .featured(featured)
+                .published(true)
+                .build();
+    }
+
+    private static Skill skill(Long id, String name, int priority) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(name);
+        skill.setCategory("backend");
+        skill.setPriority(priority);
+        return skill;
+    }
+}
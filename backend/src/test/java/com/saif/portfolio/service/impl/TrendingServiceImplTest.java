@@ -0,0 +1,252 @@
+package com.saif.portfolio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.saif.portfolio.dto.TrendingItemResponse;
+import com.saif.portfolio.dto.TrendingResponse;
+import com.saif.portfolio.model.TrendingSnapshot;
+import com.saif.portfolio.repository.TrendingSnapshotRepository;
+import com.saif.portfolio.service.ViewCountService;
+import com.saif.portfolio.util.HyperLogLog;
+
+class TrendingServiceImplTest {
+
+    private static final String BLOG = ViewCountService.BLOG;
+    private static final String PROJECT = ViewCountService.PROJECT;
+
+    private final MovableClock clock = new MovableClock(Instant.parse("2025-06-01T00:00:00Z"));
+    private final TrendingSnapshotRepository repository = mock(TrendingSnapshotRepository.class);
+    private final TransactionTemplate transactionTemplate =
+            new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private final TrendingServiceImpl trending = service();
+
+    @Test
+    void viewsHalveEveryHalfLife() {
+        views(BLOG, "caching", 4);
+        clock.advance(Duration.ofHours(1));
+        assertThat(score(BLOG, "caching")).isCloseTo(2.0, within(1e-9));
+
+        clock.advance(Duration.ofHours(1));
+        views(BLOG, "streams", 1);
+        assertThat(score(BLOG, "caching")).isCloseTo(1.0, within(1e-9));
+        assertThat(score(BLOG, "streams")).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    void rescaleKeepsDecayedScores() {
+        views(BLOG, "caching", 2);
+
+        // Past 32 half-lives the next view moves the landmark and scales everything down
+        clock.advance(Duration.ofHours(40));
+        views(BLOG, "streams", 1);
+
+        double expected = 2 * Math.pow(2, -40);
+        assertThat(score(BLOG, "caching")).isCloseTo(expected, within(expected * 1e-9));
+        assertThat(score(BLOG, "streams")).isCloseTo(1.0, within(1e-9));
+
+        clock.advance(Duration.ofHours(1));
+        views(BLOG, "caching", 1);
+        assertThat(score(BLOG, "caching")).isCloseTo(1 + expected / 2, within(1e-9));
+    }
+
+    @Test
+    void rescaleKeepsWeightsFiniteAfterLongIdlePeriods() {
+        views(PROJECT, "shop", 3);
+
+        // 2^5000 overflows a double; without rescaling this view would weigh Infinity
+        clock.advance(Duration.ofHours(5_000));
+        views(PROJECT, "shop", 1);
+
+        assertThat(score(PROJECT, "shop")).isFinite().isCloseTo(1.0, within(1e-9));
+        assertThat(trending.getTrending(false, 10).getProjects()).singleElement()
+                .satisfies(item -> assertThat(item.getUniqueVisitors()).isEqualTo(3));
+    }
+
+    @Test
+    void capacityIsPerContentTypeAndKeepsTheHeaviest() {
+        views(BLOG, "a", 4);
+        views(BLOG, "b", 2);
+        views(BLOG, "c", 1);
+        views(PROJECT, "p", 1);
+
+        // Not heavier than the weakest blog: not tracked
+        views(BLOG, "d", 1);
+        // Heavier: replaces the weakest blog, the project is untouched
+        views(BLOG, "e", 3);
+
+        TrendingResponse response = trending.getTrending(false, 10);
+        assertThat(response.getBlogs()).extracting(TrendingItemResponse::getSlug)
+                .containsExactly("a", "e", "b");
+        assertThat(response.getProjects()).extracting(TrendingItemResponse::getSlug)
+                .containsExactly("p");
+    }
+
+    @Test
+    void snapshotRoundTripRestoresScoresTitlesAndVisitors() {
+        views(BLOG, "caching", 5);
+        clock.advance(Duration.ofMinutes(90));
+        views(PROJECT, "shop", 2);
+        trending.snapshot();
+
+        ArgumentCaptor<TrendingSnapshot> saved = ArgumentCaptor.forClass(TrendingSnapshot.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getTakenAt()).isEqualTo(clock.instant());
+
+        TrendingServiceImpl restored = service();
+        when(repository.findById(any())).thenReturn(Optional.of(saved.getValue()));
+        restored.restore();
+
+        assertThat(restored.getTrending(false, 10)).isEqualTo(trending.getTrending(false, 10));
+        assertThat(restored.getTrending(true, 10).getBlogs()).singleElement().satisfies(item -> {
+            assertThat(item.getTitle()).isEqualTo("Title of caching");
+            assertThat(item.getUniqueVisitors()).isEqualTo(5);
+        });
+
+        // The restored sketch keeps accumulating on top of the saved counts
+        clock.advance(Duration.ofHours(1));
+        restored.record(BLOG, "caching", null, HyperLogLog.hash64("visitor-99"));
+        double before = 5 * Math.pow(2, -2.5);
+        assertThat(restored.getTrending(false, 10).getBlogs().get(0).getScore())
+                .isCloseTo(before + 1, within(1e-9));
+    }
+
+    @Test
+    void snapshotsFromTwoNodesAddUpInTheSharedRow() {
+        AtomicReference<TrendingSnapshot> row = sharedRow();
+
+        views(BLOG, "caching", 3);
+        clock.advance(Duration.ofHours(1));
+        TrendingServiceImpl other = service();
+        views(other, BLOG, "caching", 2);
+        views(other, PROJECT, "shop", 1);
+
+        trending.snapshot();
+        other.snapshot();
+        trending.snapshot();
+
+        // Three views an hour ago count half; two of the visitors were on both nodes
+        for (TrendingServiceImpl node : List.of(trending, other)) {
+            assertThat(score(node, BLOG, "caching")).isCloseTo(3.5, within(1e-9));
+            assertThat(score(node, PROJECT, "shop")).isCloseTo(1.0, within(1e-9));
+            assertThat(node.getTrending(true, 10).getBlogs()).singleElement()
+                    .satisfies(item -> assertThat(item.getUniqueVisitors()).isEqualTo(3));
+        }
+
+        // Views already merged are not merged again
+        trending.snapshot();
+        other.snapshot();
+        assertThat(score(other, BLOG, "caching")).isCloseTo(3.5, within(1e-9));
+        assertThat(row.get()).isNotNull();
+    }
+
+    @Test
+    void viewsFromAFailedSnapshotGoIntoTheNextOne() {
+        AtomicReference<TrendingSnapshot> row = sharedRow();
+        when(repository.save(any()))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenAnswer(invocation -> {
+                    row.set(invocation.getArgument(0));
+                    return invocation.getArgument(0);
+                });
+
+        views(BLOG, "caching", 2);
+        trending.snapshot();
+        assertThat(row.get()).isNull();
+        assertThat(score(trending, BLOG, "caching")).isCloseTo(2.0, within(1e-9));
+
+        views(BLOG, "caching", 1);
+        trending.snapshot();
+
+        TrendingServiceImpl restored = service();
+        when(repository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(row.get()));
+        restored.restore();
+        assertThat(score(restored, BLOG, "caching")).isCloseTo(3.0, within(1e-9));
+        assertThat(score(trending, BLOG, "caching")).isCloseTo(3.0, within(1e-9));
+    }
+
+    private TrendingServiceImpl service() {
+        return new TrendingServiceImpl(repository, transactionTemplate, 1, 3, 4, 1024, clock);
+    }
+
+    // The mocked repository behaves like the one shared row
+    private AtomicReference<TrendingSnapshot> sharedRow() {
+        AtomicReference<TrendingSnapshot> row = new AtomicReference<>();
+        when(repository.findLockedById(any())).thenAnswer(invocation -> Optional.ofNullable(row.get()));
+        when(repository.save(any())).thenAnswer(invocation -> {
+            row.set(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        return row;
+    }
+
+    private void views(String type, String slug, int count) {
+        views(trending, type, slug, count);
+    }
+
+    // Each view comes from a different visitor
+    private static void views(TrendingServiceImpl node, String type, String slug, int count) {
+        for (int i = 0; i < count; i++) {
+            node.record(type, slug, "Title of " + slug, HyperLogLog.hash64("visitor-" + i));
+        }
+    }
+
+    private double score(String type, String slug) {
+        return score(trending, type, slug);
+    }
+
+    private static double score(TrendingServiceImpl node, String type, String slug) {
+        TrendingResponse response = node.getTrending(false, 10);
+        return (type.equals(BLOG) ? response.getBlogs() : response.getProjects()).stream()
+                .filter(item -> item.getSlug().equals(slug))
+                .findFirst()
+                .orElseThrow()
+                .getScore();
+    }
+
+    private static final class MovableClock extends Clock {
+        private Instant now;
+
+        private MovableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.saif.portfolio.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import com.saif.portfolio.model.Blog;
+import com.saif.portfolio.model.BlogSection;
+
+class BlogContentRendererTest {
+
+    private static final String PIXEL =
+            "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+
+    // What RichTextEditor saves: editor.getHTML() with TextAlign, Underline, Link and CustomImage
+    private static final String EDITOR_HTML =
+            "<h1 style=\"text-align: center\">Building a Portfolio</h1>"
+            + "<p style=\"text-align: justify\">Intro with <strong>bold</strong>, <em>italic</em>, "
+            + "<u>underline</u>, <s>strike</s> and a <a target=\"_blank\" rel=\"noopener noreferrer nofollow\" "
+            + "href=\"https://example.com\">link</a>.</p>"
+            + "<h2>Setup</h2>"
+            + "<pre><code class=\"language-java\">public class App {\n\n    void run() {}\n}</code></pre>"
+            + "<p>After the code.</p>"
+            + "<img src=\"" + PIXEL + "\" width=\"320\" height=\"180\">"
+            + "<hr>"
+            + "<h2 style=\"text-align: right\">Wrap up</h2>"
+            + "<ul><li><p>One</p></li></ul><blockquote><p>Quote</p></blockquote>";
+
+    private final BlogContentRenderer renderer = new BlogContentRenderer();
+
+    @Test
+    void editorHtmlKeepsItsFormatting() {
+        Element body = Jsoup.parseBodyFragment(renderer.render(EDITOR_HTML)).body();
+
+        assertThat(body.selectFirst("h1").attr("style")).isEqualTo("text-align: center");
+        assertThat(body.selectFirst("p").attr("style")).isEqualTo("text-align: justify");
+        assertThat(body.select("u, s, strong, em, hr, blockquote")).hasSize(6);
+        assertThat(body.selectFirst("a").attr("target")).isEqualTo("_blank");
+        assertThat(body.selectFirst("a").attr("rel")).isEqualTo("nofollow noopener");
+        assertThat(body.selectFirst("img").attr("src")).isEqualTo(PIXEL);
+        assertThat(body.selectFirst("img").attr("width")).isEqualTo("320");
+    }
+
+    @Test
+    void codeBlockWithBlankLineDoesNotSwallowTheRestOfThePost() {
+        String html = renderer.render(EDITOR_HTML);
+        Element body = Jsoup.parseBodyFragment(html).body();
+
+        assertThat(html).doesNotContain("&lt;/code&gt;");
+        assertThat(body.selectFirst("pre > code.language-java").wholeText())
+                .isEqualTo("public class App {\n\n    void run() {}\n}");
+        assertThat(body.select("p").eachText()).contains("After the code.", "One", "Quote");
+        assertThat(body.select("h2").eachText()).containsExactly("Setup", "Wrap up");
+    }
+
+    @Test
+    void stylesOtherThanTextAlignAreDropped() {
+        Element body = Jsoup.parseBodyFragment(renderer.render(
+                "<p style=\"color: red; text-align: center\">a</p>"
+                + "<p style=\"background: url(javascript:alert(1))\">b</p>")).body();
+
+        assertThat(body.select("p").eachAttr("style")).containsExactly("text-align: center");
+    }
+
+    @Test
+    void scriptsAndNonRasterDataImagesAreRemoved() {
+        String html = renderer.render(
+                "<p onclick=\"alert(1)\">text<script>alert(1)</script></p>"
+                + "<img src=\"data:image/svg+xml;base64,PHN2Zz48L3N2Zz4=\">"
+                + "<p><a href=\"javascript:alert(1)\" target=\"_top\">x</a></p>"
+                + "<pre class=\"evil language-js\"><code class=\"hljs language-js\">x</code></pre>");
+
+        assertThat(html).doesNotContain("script", "onclick", "svg", "javascript", "_top", "evil", "hljs");
+        assertThat(html).contains("<code class=\"language-js\">");
+    }
+
+    @Test
+    void markdownIsStillRendered() {
+        Element body = Jsoup.parseBodyFragment(renderer.render("# Title\n\nSome *text*.")).body();
+
+        assertThat(body.selectFirst("h1").text()).isEqualTo("Title");
+        assertThat(body.selectFirst("p em").text()).isEqualTo("text");
+    }
+
+    @Test
+    void editorHtmlSplitsIntoSections() {
+        List<BlogSection> sections = renderer.sections(new Blog(), renderer.render(EDITOR_HTML));
+
+        assertThat(sections).extracting(BlogSection::getHeading)
+                .containsExactly("Building a Portfolio");
+        assertThat(sections.get(0).getHtml()).contains("After the code.", "Wrap up");
+    }
+
+    @Test
+    void editorHeadingsGetUniqueSluggedIds() {
+        Element body = Jsoup.parseBodyFragment(renderer.render(
+                "<h2>Setup &amp; Install</h2><p>a</p><h2 id=\"evil\">Setup &amp; Install</h2>"
+                + "<h3>Caf\u00e9 2.0!</h3><h2>!!!</h2>")).body();
+
+        assertThat(body.select("h2, h3").eachAttr("id"))
+                .containsExactly("setup-install", "setup-install-1", "caf-2-0", "section");
+    }
+
+    @Test
+    void editorPostTocHasAnchorsForEverySection() {
+        String html = renderer.render(
+                "<p>Intro</p><h2>Getting started</h2><p>One</p>"
+                + "<h2 style=\"text-align: center\">Getting started</h2><p>Two</p><h2>Next steps</h2><p>Three</p>");
+
+        List<BlogSection> sections = renderer.sections(new Blog(), html);
+
+        assertThat(sections).extracting(BlogSection::getHeading)
+                .containsExactly(null, "Getting started", "Getting started", "Next steps");
+        assertThat(sections).extracting(BlogSection::getAnchor)
+                .containsExactly(null, "getting-started", "getting-started-1", "next-steps");
+        assertThat(sections.get(2).getHtml()).startsWith("<h2 style=\"text-align: center\" id=\"getting-started-1\">");
+    }
+
+    @Test
+    void markdownHeadingsGetTheSameIds() {
+        Element body = Jsoup.parseBodyFragment(renderer.render("# Title\n\n## Title")).body();
+
+        assertThat(body.select("h1, h2").eachAttr("id")).containsExactly("title", "title-1");
+    }
+}
@@ -0,0 +1,131 @@
+package com.saif.portfolio.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+    private static final int KEYS = 5000;
+
+    @Test
+    void estimatesNeverUndercountAndStayWithinTheErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(4, 512);
+        long total = 0;
+        for (int i = 0; i < KEYS; i++) {
+            for (int view = 0; view < views(i); view++) {
+                sketch.add(hash(i), 1);
+            }
+            total += views(i);
+        }
+        sketch.add(hash(-1), 10_000);
+        total += 10_000;
+
+        // Overcount exceeds e * N / width with probability at most e^-depth (~1.8%) per key
+        double bound = Math.E * total / sketch.width();
+        int outside = 0;
+        for (int i = 0; i < KEYS; i++) {
+            double error = sketch.estimate(hash(i)) - views(i);
+            assertThat(error).isGreaterThanOrEqualTo(0);
+            if (error > bound) {
+                outside++;
+            }
+        }
+        assertThat(outside).isLessThan(KEYS / 20);
+        assertThat(sketch.estimate(hash(-1))).isBetween(10_000.0, 10_000 + bound);
+    }
+
+    @Test
+    void addReturnsTheNewEstimate() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+
+        assertThat(sketch.add(hash(1), 2.5)).isEqualTo(2.5);
+        assertThat(sketch.add(hash(1), 1)).isEqualTo(3.5);
+        assertThat(sketch.estimate(hash(1))).isEqualTo(3.5);
+        assertThat(sketch.estimate(hash(2))).isZero();
+    }
+
+    @Test
+    void scaleMultipliesEveryCount() {
+        CountMinSketch sketch = filled(0, 100);
+
+        sketch.scale(0.25);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sketch.estimate(hash(i))).isCloseTo(filled(0, 100).estimate(hash(i)) * 0.25, within(1e-9));
+        }
+    }
+
+    @Test
+    void mergeMatchesASketchThatSawBothStreams() {
+        CountMinSketch merged = filled(0, 600);
+        merged.merge(filled(400, 1000), 0.5);
+
+        CountMinSketch direct = new CountMinSketch(4, 256);
+        for (int i = 0; i < 1000; i++) {
+            if (i < 600) {
+                direct.add(hash(i), views(i));
+            }
+            if (i >= 400) {
+                direct.add(hash(i), views(i) * 0.5);
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(merged.estimate(hash(i))).isCloseTo(direct.estimate(hash(i)), within(1e-9));
+        }
+    }
+
+    @Test
+    void mergeRejectsOtherDimensions() {
+        CountMinSketch sketch = new CountMinSketch(4, 256);
+
+        assertThatThrownBy(() -> sketch.merge(new CountMinSketch(4, 128), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sketch.merge(new CountMinSketch(3, 256), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void writeAndReadRoundTrip() throws IOException {
+        CountMinSketch original = filled(0, 300);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            original.write(out);
+        }
+        assertThat(bytes.size()).isEqualTo(4 * 256 * Double.BYTES);
+
+        CountMinSketch copy = new CountMinSketch(4, 256);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy.read(in);
+        }
+        for (int i = 0; i < 300; i++) {
+            assertThat(copy.estimate(hash(i))).isEqualTo(original.estimate(hash(i)));
+        }
+    }
+
+    private static CountMinSketch filled(int from, int to) {
+        CountMinSketch sketch = new CountMinSketch(4, 256);
+        for (int i = from; i < to; i++) {
+            sketch.add(hash(i), views(i));
+        }
+        return sketch;
+    }
+
+    private static int views(int key) {
+        return key % 20 + 1;
+    }
+
+    private static long hash(int key) {
+        return HyperLogLog.hash64("blog/post-" + key);
+    }
+}
@@ -0,0 +1,105 @@
+package com.saif.portfolio.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HyperLogLogTest {
+
+    // Three standard errors of a 1024-register counter (1.04 / sqrt(1024) ~ 3.25%)
+    private static final double TOLERANCE_PERCENT = 10;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 500, 5_000, 100_000})
+    void cardinalityIsWithinThreeStandardErrors(int distinct) {
+        HyperLogLog hll = filled(0, distinct);
+
+        assertThat(hll.cardinality()).isCloseTo(distinct, withinPercentage(TOLERANCE_PERCENT));
+    }
+
+    @Test
+    void repeatedVisitorsAreCountedOnce() {
+        HyperLogLog once = filled(0, 2_000);
+        HyperLogLog repeated = new HyperLogLog();
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 2_000; i++) {
+                repeated.add(hash(i));
+            }
+        }
+
+        assertThat(repeated.cardinality()).isEqualTo(once.cardinality());
+    }
+
+    @Test
+    void mergeCountsTheUnion() {
+        HyperLogLog merged = filled(0, 60_000);
+        merged.merge(filled(40_000, 100_000));
+
+        // Register-wise max is exactly what one counter over both streams would hold
+        assertThat(merged.cardinality()).isEqualTo(filled(0, 100_000).cardinality());
+        assertThat(merged.cardinality()).isCloseTo(100_000L, withinPercentage(TOLERANCE_PERCENT));
+    }
+
+    @Test
+    void copyIsIndependent() {
+        HyperLogLog original = filled(0, 1_000);
+        long before = original.cardinality();
+
+        HyperLogLog copy = original.copy();
+        copy.merge(filled(1_000, 50_000));
+
+        assertThat(original.cardinality()).isEqualTo(before);
+        assertThat(copy.cardinality()).isGreaterThan(before);
+    }
+
+    @Test
+    void writeAndReadRoundTrip() throws IOException {
+        HyperLogLog original = filled(0, 20_000);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            original.write(out);
+        }
+        assertThat(bytes.size()).isEqualTo(1024);
+
+        HyperLogLog copy;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = HyperLogLog.read(in);
+        }
+        assertThat(copy.cardinality()).isEqualTo(original.cardinality());
+
+        // Both keep counting the same way after the round trip
+        copy.merge(filled(20_000, 30_000));
+        original.merge(filled(20_000, 30_000));
+        assertThat(copy.cardinality()).isEqualTo(original.cardinality());
+    }
+
+    @Test
+    void hashIsStableAndSpreadsSimilarInputs() {
+        assertThat(HyperLogLog.hash64("10.0.0.1|curl")).isEqualTo(HyperLogLog.hash64("10.0.0.1|curl"));
+        assertThat(HyperLogLog.hash64("10.0.0.1|curl")).isNotEqualTo(HyperLogLog.hash64("10.0.0.2|curl"));
+        // Register index comes from the top bits, so near-identical inputs must differ there too
+        assertThat(HyperLogLog.hash64("a") >>> 54).isNotEqualTo(HyperLogLog.hash64("b") >>> 54);
+    }
+
+    private static HyperLogLog filled(int from, int to) {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            hll.add(hash(i));
+        }
+        return hll;
+    }
+
+    private static long hash(int visitor) {
+        return HyperLogLog.hash64("203.0.113." + visitor + "|Mozilla/5.0");
+    }
+}
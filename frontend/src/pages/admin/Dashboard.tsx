@@ -17,6 +17,7 @@ import {
   Users,
   UserCheck,
   Layers,
+  Eye,
 } from "lucide-react";
 import { Skeleton } from "@/components/ui/skeleton"; // ✅ ShadCN Skeleton
 
@@ -161,6 +162,22 @@ const Dashboard = () => {
           accent="bg-rose-500"
           loading={loading}
         />
+        <StatCard
+          title="Blog Views"
+          value={stats.blogViews ?? 0}
+          href="/admin/blogs"
+          icon={<Eye size={20} />}
+          accent="bg-purple-500"
+          loading={loading}
+        />
+        <StatCard
+          title="Project Views"
+          value={stats.projectViews ?? 0}
+          href="/admin/projects"
+          icon={<Eye size={20} />}
+          accent="bg-blue-500"
+          loading={loading}
+        />
       </div>
 
       {/* ✅ BOTTOM SECTION: Skills Breakdown */}
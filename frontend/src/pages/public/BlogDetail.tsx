@@ -1,15 +1,18 @@
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import { motion } from "framer-motion";
 import { useParams, Link } from "react-router-dom";
-import { ArrowLeft, Calendar, Clock, User } from "lucide-react";
+import { ArrowLeft, Calendar, Clock, Eye, User } from "lucide-react";
 import blogService from "../../services/blogService";
-import { BlogResponse } from "../../types/blog";
+import { BlogDetailResponse, BlogSectionResponse } from "../../types/blog";
 
 const BlogDetail = () => {
   const { slug } = useParams();
-  const [post, setPost] = useState<BlogResponse | null>(null);
+  const [post, setPost] = useState<BlogDetailResponse | null>(null);
+  const [sections, setSections] = useState<BlogSectionResponse[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
+  const loadingSection = useRef(false);
+  const sentinelRef = useRef<HTMLDivElement | null>(null);
 
   useEffect(() => {
     const fetchBlog = async () => {
@@ -17,6 +20,7 @@ const BlogDetail = () => {
         try {
           const blogData = await blogService.getBlogBySlug(slug);
           setPost(blogData);
+          setSections(blogData.sections);
           setError(null);
         } catch (err) {
           setError("Failed to load blog post");
@@ -29,6 +33,34 @@ const BlogDetail = () => {
     fetchBlog();
   }, [slug]);
 
+  // Load the next section when the reader nears the end of what is rendered
+  useEffect(() => {
+    const sentinel = sentinelRef.current;
+    if (!post || !slug || !sentinel || sections.length >= post.totalSections) {
+      return;
+    }
+
+    const observer = new IntersectionObserver(
+      async ([entry]) => {
+        if (!entry.isIntersecting || loadingSection.current) {
+          return;
+        }
+        loadingSection.current = true;
+        try {
+          const next = await blogService.getBlogSection(slug, sections.length);
+          setSections((prev) => [...prev, next]);
+        } catch (err) {
+          console.error("Error fetching blog section:", err);
+        } finally {
+          loadingSection.current = false;
+        }
+      },
+      { rootMargin: "800px" }
+    );
+    observer.observe(sentinel);
+    return () => observer.disconnect();
+  }, [post, slug, sections.length]);
+
   if (loading) {
     return (
       <div className="pt-24 pb-20 bg-white min-h-screen flex justify-center items-center">
@@ -118,6 +150,10 @@ const BlogDetail = () => {
               <Clock size={14} />
               <span>{post.readTime}</span>
             </div>
+            <div className="flex items-center gap-2">
+              <Eye size={14} />
+              <span>{post.views.toLocaleString()} views</span>
+            </div>
           </div>
 
           {post.image && (
@@ -131,8 +167,14 @@ const BlogDetail = () => {
 
         {/* Article Content */}
         <div className="prose prose-orange max-w-none text-black prose-sm sm:prose-base break-words">
-          <div dangerouslySetInnerHTML={{ __html: post.content }} />
+          {sections.map((section) => (
+            <section
+              key={section.position}
+              dangerouslySetInnerHTML={{ __html: section.html }}
+            />
+          ))}
         </div>
+        <div ref={sentinelRef} aria-hidden="true" />
       </div>
     </motion.div>
   );
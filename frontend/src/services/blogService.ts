@@ -1,6 +1,12 @@
 import { apiClient } from "../lib/apiClient";
 import { ApiResponse } from "../types/api";
-import { BlogRequest, BlogResponse, PaginatedBlogResponse } from "../types/blog";
+import {
+  BlogDetailResponse,
+  BlogRequest,
+  BlogResponse,
+  BlogSectionResponse,
+  PaginatedBlogResponse,
+} from "../types/blog";
 
 class BlogService {
   // ✅ Get paginated blogs
@@ -21,13 +27,21 @@ class BlogService {
     return response.data.data;
   }
 
-  async getBlogBySlug(slug: string): Promise<BlogResponse> {
-    const response = await apiClient.get<ApiResponse<BlogResponse>>(
+  async getBlogBySlug(slug: string): Promise<BlogDetailResponse> {
+    const response = await apiClient.get<ApiResponse<BlogDetailResponse>>(
       `/blogs/slug/${encodeURIComponent(slug)}`
     );
     return response.data.data;
   }
 
+  // ✅ Remaining sections of a long post, fetched on scroll
+  async getBlogSection(slug: string, position: number): Promise<BlogSectionResponse> {
+    const response = await apiClient.get<ApiResponse<BlogSectionResponse>>(
+      `/blogs/slug/${encodeURIComponent(slug)}/sections/${position}`
+    );
+    return response.data.data;
+  }
+
   // ✅ Get paginated blogs by category
   async getBlogsByCategory(
     category: string,
@@ -16,6 +16,41 @@ export interface BlogResponse {
   image: ImageUploadResponse;
 }
 
+// One heading-delimited slice of a post's rendered HTML
+export interface BlogSectionResponse {
+  position: number;
+  level: number;
+  heading: string | null;
+  anchor: string | null;
+  html: string;
+}
+
+export interface BlogTocEntry {
+  position: number;
+  level: number;
+  heading: string;
+  anchor: string | null;
+}
+
+// Blog detail by slug: TOC + first sections, the rest loaded on scroll
+export interface BlogDetailResponse {
+  id: number;
+  title: string;
+  slug: string;
+  summary: string;
+  category: string;
+  readTime: string;
+  author: string;
+  createdAt: string;
+  updatedAt: string;
+  image: ImageUploadResponse | null;
+  contentHash: string;
+  totalSections: number;
+  toc: BlogTocEntry[];
+  sections: BlogSectionResponse[];
+  views: number;
+}
+
 // Request payload for creating/updating blog
 export interface BlogRequest {
   title: string;
@@ -10,6 +10,8 @@ export interface DashboardStats {
   totalContacts: number;
   totalCertificates: number;
   verifiedUsers: number;
+  blogViews: number;
+  projectViews: number;
 }
 
 export default DashboardStats;
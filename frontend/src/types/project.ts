@@ -46,6 +46,7 @@ export interface ProjectResponse {
   technologies: string[]; 
   createdAt: string; 
   updatedAt: string;
+  views: number;
 }
 
 export interface SimpleProject {